@@ -19,6 +19,7 @@ import model.data_structures.*;
 import model.util.Sort;
 import model.vo.LocationVO;
 import model.vo.VOMovingViolation;
+import model.vo.VOMovingViolationColumnas;
 import model.vo.VOViolationCode;
 import view.MovingViolationsManagerView;
 
@@ -29,14 +30,14 @@ public class Controller {
 
 	private MovingViolationsManagerView view;
 
-	private static IArregloDinamico<VOMovingViolation> movingVOLista;
+	private static VOMovingViolationColumnas movingVOColumnas;
 	private static IArregloDinamico<LocationVO> locationVOLista;
 	private static IArregloDinamico<LocationVO> muestraLoc;
 
 	public Controller() {
 		view = new MovingViolationsManagerView();
 
-		movingVOLista = null;
+		movingVOColumnas = null;
 	}
 
 	/**
@@ -53,7 +54,8 @@ public class Controller {
 		int fileCounter = 0; 
 		int suma = 0;
 		try {
-			movingVOLista = new ArregloDinamico<VOMovingViolation>();
+			// Las infracciones se guardan por columnas, sin mantener un VOMovingViolation por fila
+			movingVOColumnas = new VOMovingViolationColumnas();
 
 			for (String filePath : movingViolationsFilePaths) {
 				// Entender el header
@@ -70,7 +72,7 @@ public class Controller {
 				// Carga de las infracciones a la cola, teniendo en cuenta el formato del archivo
 				contadores[fileCounter] = 0;
 				for (String[] row : reader) {
-					movingVOLista.agregar(new VOMovingViolation(posiciones, row));
+					movingVOColumnas.agregar(posiciones, row);
 					contadores[fileCounter] += 1;
 				}
 				fileCounter += 1;
@@ -79,41 +81,11 @@ public class Controller {
 			/*
 			 * Generar la lista de LocationVOs
 			 */
-			Sort.ordenarShellSort(movingVOLista, new VOMovingViolation.AddressIDOrder());
+			// Ordenar las columnas por addressID para los recorridos que agrupan por addressID
+			movingVOColumnas.ordenarPorAddressID();
 			
-			// Inicializar la lista de LocationVOs
-			locationVOLista = new ArregloDinamico<LocationVO>();
-
-			// Si no hay datos, entonces deja la cola vacia
-			Iterator<VOMovingViolation> iterador = movingVOLista.iterator();
-			if (!iterador.hasNext()) {return suma;}
-
-			// Como los datos estan ordenados, tomamos una infraccion de referencia para comparar con
-			// los datos inmediatamente siguientes
-			VOMovingViolation infrRevisar = iterador.next();
-			int addressRef = infrRevisar.getAddressID();
-			String locationRef = infrRevisar.getLocation();
-			// Contador de infracciones con el mismo AddressID
-			int contadorIgs = 1;
-
-			while (iterador.hasNext()) { // Podria hacerse diferente
-				infrRevisar = iterador.next();
-
-				if (addressRef == infrRevisar.getAddressID()) {
-					// Actualiza contadores
-					contadorIgs += 1;
-				} else {
-					// Agrega el LocationVO que esta revisando a la cola
-					locationVOLista.agregar(new LocationVO(addressRef, locationRef, contadorIgs));
-					
-					// Reestablece referencias
-					addressRef = infrRevisar.getAddressID();
-					locationRef = infrRevisar.getLocation();
-					contadorIgs = 1;
-				}
-			}
-			// Agregar la ultima referencia 
-			locationVOLista.agregar(new LocationVO(addressRef, locationRef, contadorIgs));
+			// Un LocationVO por addressID, con todas sus infracciones
+			locationVOLista = generarLocations(Long.MIN_VALUE, Long.MAX_VALUE);
 			System.out.println("Hay " + locationVOLista.darTamano() + " LocationVOs");
 
 		} catch (Exception e) {
@@ -149,40 +121,32 @@ public class Controller {
 	 */
 	public IArregloDinamico<VOMovingViolation> generarMuestraInfracciones(int n)
 	{
-		if(n > movingVOLista.darTamano()){
+		if(n > movingVOColumnas.darTamano()){
 			throw new IllegalArgumentException("No se generan muestras de tal tamanio.");
 		}
 		
 		IArregloDinamico<VOMovingViolation> muestra = new ArregloDinamico<VOMovingViolation>(n);	
-		IArregloDinamico<Integer> posiciones  =  new ArregloDinamico<>(n);
+		ArregloDinamicoInt posiciones  =  new ArregloDinamicoInt(n);
 		
 		// Generar posiciones
 		for (int i = 0; i < n; i++){
-			posiciones.agregar((int)(Math.random() * (movingVOLista.darTamano()-1)));
+			posiciones.agregar((int)(Math.random() * (movingVOColumnas.darTamano()-1)));
 		}
 		
-		while(!Sort.isSorted(Comparator.<Integer>naturalOrder(), posiciones)) {
-			Sort.ordenarShellSort(posiciones, Comparator.<Integer>naturalOrder()); //Rapido para listas parcialmente ordenadas
+		while(!Sort.isSorted(posiciones)) {
+			Sort.ordenar(posiciones); // Arrays.sort: casi lineal si las posiciones ya estan casi ordenadas
 			for (int i = 0; i < n-1; i++) {
-				while (posiciones.darObjeto(i) == posiciones.darObjeto(i+1)) posiciones.cambiarEnPos(i,(int)(Math.random() * movingVOLista.darTamano()-1));
+				while (posiciones.darObjeto(i) == posiciones.darObjeto(i+1)) posiciones.cambiarEnPos(i,(int)(Math.random() * movingVOColumnas.darTamano()-1));
 			}
 		}
 		
-		// Cargar muestra
-		int contadorInf = 0;
-		Iterator<VOMovingViolation> iterador = movingVOLista.iterator();
-		VOMovingViolation infraccionAct = iterador.next();
-		//long initTimeCargando = System.currentTimeMillis();
+		// Cargar muestra: solo se crean los VOMovingViolation de las posiciones escogidas.
+		// Como las columnas estan ordenadas por addressID y las posiciones en orden ascendente,
+		// la muestra queda ordenada por addressID
 		for (int i = 0; i < n; i++) {
-			while (contadorInf != posiciones.darObjeto(i)) {
-				infraccionAct = iterador.next();
-				contadorInf += 1;
-			}
-			muestra.agregar(infraccionAct);
+			muestra.agregar(movingVOColumnas.darInfraccion(posiciones.darObjeto(i)));
 		}
 		
-		Sort.ordenarShellSort(movingVOLista, new VOMovingViolation.AddressIDOrder());
-		
 		// Inicializar la lista de LocationVOs
 		locationVOLista = new ArregloDinamico<LocationVO>();
 		// Si no hay datos, entonces deja la cola vacia
@@ -232,15 +196,15 @@ public class Controller {
 			throw new IllegalArgumentException("El tamanio maximo de la muestra es " + locationVOLista.darTamano());
 		}
 		IArregloDinamico<LocationVO> muestra = new ArregloDinamico<LocationVO>(n);	
-		IArregloDinamico<Integer> posiciones  =  new ArregloDinamico<>(n);
+		ArregloDinamicoInt posiciones  =  new ArregloDinamicoInt(n);
 		
 		// Generar posiciones
 		for (int i = 0; i < n; i++){
 			posiciones.agregar((int)(Math.random() * (locationVOLista.darTamano()-1)));
 		}
 		
-		while(!Sort.isSorted(Comparator.<Integer>naturalOrder(), posiciones)) {
-			Sort.ordenarShellSort(posiciones, Comparator.<Integer>naturalOrder()); //Rapido para listas parcialmente ordenadas
+		while(!Sort.isSorted(posiciones)) {
+			Sort.ordenar(posiciones); // Arrays.sort: casi lineal si las posiciones ya estan casi ordenadas
 			for (int i = 0; i < n-1; i++) {
 				while (posiciones.darObjeto(i) == posiciones.darObjeto(i+1)) posiciones.cambiarEnPos(i,(int)(Math.random() * locationVOLista.darTamano()-1));
 			}
@@ -314,63 +278,149 @@ public class Controller {
 	}
 	
 	private MaxHeapCP <LocationVO> crearMaxHeapCP (LocalDateTime fInicial, LocalDateTime fFinal) {
-		MaxHeapCP<LocationVO> respuesta = new MaxHeapCP<LocationVO>();
-		creacionDeColas(respuesta, fInicial, fFinal);
-		return respuesta;
+		// Construccion de abajo hacia arriba, O(n) en vez de n llamadas a agregar()
+		return new MaxHeapCP<LocationVO>(generarLocations(fInicial, fFinal));
 	}
 	
-	private void creacionDeColas(IColaPrioridad<LocationVO> respuesta, LocalDateTime fInicial, LocalDateTime fFinal) {
-		if (!Sort.isSorted(new VOMovingViolation.AddressIDOrder(), movingVOLista)) {
-			Sort.ordenarShellSort(movingVOLista, new VOMovingViolation.AddressIDOrder());
+	/**
+	 * Crear un heap de LocationVOs con la aridad dada
+	 * @param aridad numero de hijos de cada nodo. Con 2 se usa MaxHeapCP
+	 */
+	private IColaPrioridad <LocationVO> crearMaxHeapCP (LocalDateTime fInicial, LocalDateTime fFinal, int aridad) {
+		if (aridad == 2) return crearMaxHeapCP(fInicial, fFinal);
+		return new DaryMaxHeapCP<LocationVO>(aridad, generarLocations(fInicial, fFinal));
+	}
+	
+	/**
+	 * Crear un heap de parejas (numero de infracciones en el rango de fechas, addressID) sin crear LocationVOs
+	 * @param fInicial fecha inicial del rango
+	 * @param fFinal fecha final del rango
+	 */
+	private IntMaxHeap crearIntMaxHeap (LocalDateTime fInicial, LocalDateTime fFinal) {
+		IntMaxHeap respuesta = new IntMaxHeap();
+		int n = movingVOColumnas.darTamano();
+		if (n == 0) return respuesta;
+		
+		long inicio = VOMovingViolationColumnas.aSegundos(fInicial);
+		long fin = VOMovingViolationColumnas.aSegundos(fFinal);
+		
+		// Como las columnas estan ordenadas por addressID, se cuentan las infracciones de cada addressID consecutivo
+		int addressRef = movingVOColumnas.darAddressID(0);
+		int contadorIgs = 0;
+		for (int i = 0; i < n; i++) {
+			int address = movingVOColumnas.darAddressID(i);
+			if (address != addressRef) {
+				respuesta.agregar(contadorIgs, addressRef);
+				addressRef = address;
+				contadorIgs = 0;
+			}
+			long fecha = movingVOColumnas.darTicketIssueDate(i);
+			if (inicio <= fecha && fecha <= fin) contadorIgs += 1;
 		}
+		// Agregar la ultima referencia
+		respuesta.agregar(contadorIgs, addressRef);
+		return respuesta;
+	}
+	
+	/**
+	 * Dar las k LocationVOs con mas infracciones en el rango de fechas dado. Se recorren las columnas de addressID
+	 * y fecha, y solo se guardan en el TopK las k mayores: no se construye la lista de todas las LocationVOs
+	 * @param k numero de LocationVOs a retornar, k > 0
+	 * @return a lo sumo k LocationVOs, de mayor a menor numero de infracciones
+	 */
+	public IArregloDinamico<LocationVO> darTopLocations(LocalDateTime fInicial, LocalDateTime fFinal, int k) {
+		TopK<LocationVO> topK = new TopK<LocationVO>(k);
+		int n = movingVOColumnas.darTamano();
+		if (n == 0) return topK.darTopK();
 		
+		long inicio = VOMovingViolationColumnas.aSegundos(fInicial);
+		long fin = VOMovingViolationColumnas.aSegundos(fFinal);
+		
+		// Como las columnas estan ordenadas por addressID, se cuentan las infracciones de cada addressID consecutivo
+		int addressRef = movingVOColumnas.darAddressID(0);
+		int filaRef = 0;
+		int contadorIgs = 0;
+		for (int i = 0; i < n; i++) {
+			int address = movingVOColumnas.darAddressID(i);
+			if (address != addressRef) {
+				topK.agregar(new LocationVO(addressRef, movingVOColumnas.darLocation(filaRef), contadorIgs));
+				addressRef = address;
+				filaRef = i;
+				contadorIgs = 0;
+			}
+			long fecha = movingVOColumnas.darTicketIssueDate(i);
+			if (inicio <= fecha && fecha <= fin) contadorIgs += 1;
+		}
+		// Agregar la ultima referencia
+		topK.agregar(new LocationVO(addressRef, movingVOColumnas.darLocation(filaRef), contadorIgs));
+		return topK.darTopK();
+	}
+	
+	private void creacionDeColas(IColaPrioridad<LocationVO> respuesta, LocalDateTime fInicial, LocalDateTime fFinal) {
+		respuesta.agregarTodos(generarLocations(fInicial, fFinal));
+	}
+	
+	/**
+	 * Generar un LocationVO por cada addressID, contando sus infracciones en el rango de fechas dado
+	 * @param fInicial fecha inicial del rango
+	 * @param fFinal fecha final del rango
+	 * @return arreglo con los LocationVOs, en orden de addressID
+	 */
+	private IArregloDinamico<LocationVO> generarLocations(LocalDateTime fInicial, LocalDateTime fFinal) {
+		return generarLocations(VOMovingViolationColumnas.aSegundos(fInicial), VOMovingViolationColumnas.aSegundos(fFinal));
+	}
+	
+	/**
+	 * Generar un LocationVO por cada addressID, contando sus infracciones con fecha entre inicio y fin
+	 * @param inicio fecha inicial en segundos desde 1970-01-01T00:00:00Z
+	 * @param fin fecha final en segundos desde 1970-01-01T00:00:00Z
+	 * @return arreglo con los LocationVOs, en orden de addressID
+	 */
+	private IArregloDinamico<LocationVO> generarLocations(long inicio, long fin) {
 		// Inicializar la lista de LocationVOs
-		//MaxHeapCP<LocationVO> respuesta = new MaxHeapCP<LocationVO>();
+		IArregloDinamico<LocationVO> respuesta = new ArregloDinamico<LocationVO>();
 
-		// Si no hay datos, entonces deja la cola vacia
-		Iterator<VOMovingViolation> iterador = movingVOLista.iterator();
-		if (!iterador.hasNext()) {return;}
-
-		// Como los datos estan ordenados, tomamos una infraccion de referencia para comparar con
-		// los datos inmediatamente siguientes
-		VOMovingViolation infrRevisar = iterador.next();
-		int addressRef = infrRevisar.getAddressID();
-		String locationRef = infrRevisar.getLocation();
+		// Si no hay datos, entonces deja la lista vacia
+		int n = movingVOColumnas.darTamano();
+		if (n == 0) {return respuesta;}
+		
+		// Como las columnas estan ordenadas por addressID, se cuentan las infracciones de cada addressID
+		// consecutivo recorriendo solo las columnas de addressID y fecha
+		int addressRef = movingVOColumnas.darAddressID(0);
+		int filaRef = 0;
 		// Contador de infracciones con el mismo AddressID en el rango de fechas indicado
 		int contadorIgs = 0;
-		if (infrRevisar.getTicketIssueDate().compareTo(fInicial) >= 0 && 
-				infrRevisar.getTicketIssueDate().compareTo(fFinal) <= 0) {
-			contadorIgs += 1;
-		}
-		while (iterador.hasNext()) { // Podria hacerse diferente
-			infrRevisar = iterador.next();
-	
-			if (addressRef == infrRevisar.getAddressID()) {
-				// Actualiza contadores
-				if (infrRevisar.getTicketIssueDate().compareTo(fInicial) >= 0 && 
-						infrRevisar.getTicketIssueDate().compareTo(fFinal) <= 0) {
-					contadorIgs += 1;
-				}
-			} else {
-				// Agrega el LocationVO que esta revisando a la cola
-				respuesta.agregar(new LocationVO(addressRef, locationRef, contadorIgs));
+		for (int i = 0; i < n; i++) {
+			int address = movingVOColumnas.darAddressID(i);
+			if (address != addressRef) {
+				// Agrega el LocationVO que esta revisando a la lista
+				respuesta.agregar(new LocationVO(addressRef, movingVOColumnas.darLocation(filaRef), contadorIgs));
 				
-			// 	Reestablece referencias
-				addressRef = infrRevisar.getAddressID();
-				locationRef = infrRevisar.getLocation();
+				// Reestablece referencias
+				addressRef = address;
+				filaRef = i;
 				contadorIgs = 0;
-				if (infrRevisar.getTicketIssueDate().compareTo(fInicial) >= 0 && 
-						infrRevisar.getTicketIssueDate().compareTo(fFinal) <= 0) {
-					contadorIgs += 1;
-				}
 			}
+			long fecha = movingVOColumnas.darTicketIssueDate(i);
+			if (inicio <= fecha && fecha <= fin) contadorIgs += 1;
 		}
 		// Agregar la ultima referencia 
-		respuesta.agregar(new LocationVO(addressRef, locationRef, contadorIgs));
+		respuesta.agregar(new LocationVO(addressRef, movingVOColumnas.darLocation(filaRef), contadorIgs));
+		return respuesta;
 	}
 
 	
 	public double[] contabilizarTiempo(LocalDateTime fechaInicial, LocalDateTime fechaFinal){
+		return contabilizarTiempo(fechaInicial, fechaFinal, 2);
+	}
+	
+	/**
+	 * Medir el tiempo de crear la cola de prioridad, el heap con la aridad dada y el heap de primitivos
+	 * (IntMaxHeap, sin LocationVOs) para el rango de fechas
+	 * @param aridad numero de hijos de cada nodo del heap. Con 2 se usa MaxHeapCP
+	 * @return tiempos en milisegundos de la cola de prioridad, del heap y del heap de primitivos
+	 */
+	public double[] contabilizarTiempo(LocalDateTime fechaInicial, LocalDateTime fechaFinal, int aridad){
 		
 		double tiempo1 = 0;
 		double tiempo2 = 0;
@@ -382,11 +432,16 @@ public class Controller {
 		tiempo1 = (double) (endTime- startTime);
 		
 		startTime = System.currentTimeMillis();
-		crearMaxHeapCP(fechaInicial, fechaFinal);
+		crearMaxHeapCP(fechaInicial, fechaFinal, aridad);
 		endTime = System.currentTimeMillis();
 		tiempo2 =(double) (endTime- startTime);
 		
-		return new double [] {tiempo1 , tiempo2};
+		startTime = System.currentTimeMillis();
+		crearIntMaxHeap(fechaInicial, fechaFinal);
+		endTime = System.currentTimeMillis();
+		double tiempo3 = (double) (endTime - startTime);
+		
+		return new double [] {tiempo1 , tiempo2, tiempo3};
 	}
 	
 	
@@ -467,10 +522,28 @@ public class Controller {
 				view.printMensage("Ingrese la fecha con hora final (Ej : 01/04/2018T04:40:00)");
 				LocalDateTime fechaFinalReq2A = convertirFecha_Hora_LDT(sc.next());
 				
-				double [] respuesta = contabilizarTiempo(fechaInicialReq2A, fechaFinalReq2A);
+				view.printMensage("Ingrese el numero de hijos de cada nodo del heap (2 para MaxHeapCP)");
+				int aridad = sc.nextInt();
+				
+				double [] respuesta = contabilizarTiempo(fechaInicialReq2A, fechaFinalReq2A, aridad);
 				System.out.println("Tiempo Cola de Prioridad:  " + respuesta[0] + " milisegundos");
-				System.out.println("Tiempo Heap: " + respuesta[1] + " milisegundos");
+				System.out.println("Tiempo Heap (aridad " + aridad + "): " + respuesta[1] + " milisegundos");
+				System.out.println("Tiempo Heap de primitivos: " + respuesta[2] + " milisegundos");
+				
+				break;
+				
+			case 7:
+				view.printMensage("Ingrese la fecha con hora inicial (Ej : 01/04/2018T04:40:00)");
+				LocalDateTime fechaInicialTop = convertirFecha_Hora_LDT(sc.next());
+
+				view.printMensage("Ingrese la fecha con hora final (Ej : 01/04/2018T04:40:00)");
+				LocalDateTime fechaFinalTop = convertirFecha_Hora_LDT(sc.next());
+				
+				view.printMensage("Ingrese el numero de LocationVOs a mostrar");
+				int k = sc.nextInt();
 				
+				IArregloDinamico<LocationVO> top = darTopLocations(fechaInicialTop, fechaFinalTop, k);
+				view.printDatosMuestra(top.darTamano(), top);
 				break;
 				
 /*
@@ -1,10 +1,24 @@
 package model.data_structures;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 @SuppressWarnings("unchecked")
 public class ArregloDinamico<T> implements IArregloDinamico<T> {
 	
+	/*
+	 * Constantes
+	 */
+	/**
+	 * Capacidad por debajo de la cual no se reduce el arreglo
+	 */
+	private static final int CAPACIDAD_MINIMA = 2;
+	/**
+	 * Factor de crecimiento por defecto
+	 */
+	private static final double FACTOR_CRECIMIENTO = 2;
+	
 	/*
 	 * Atributos
 	 */
@@ -16,6 +30,10 @@ public class ArregloDinamico<T> implements IArregloDinamico<T> {
 	 * Numero de elementos en el arreglo (de forma compacta desde la posicion 0)
 	 */
 	private int tamanoAct;
+	/**
+	 * Factor por el que se multiplica la capacidad cuando el arreglo se llena
+	 */
+	private double factorCrecimiento;
     /**
      * Arreglo de elementos de tamaNo maximo
      */
@@ -30,18 +48,28 @@ public class ArregloDinamico<T> implements IArregloDinamico<T> {
      */
     public ArregloDinamico( int max )
 	{
+    	this(max, FACTOR_CRECIMIENTO);
+    }
+    
+    /**
+     * Construir un arreglo con la capacidad maxima inicial y el factor de crecimiento dados.
+     * @param max Capacidad maxima inicial
+     * @param factorCrecimiento factor por el que se multiplica la capacidad cuando el arreglo se llena, mayor a 1
+     */
+    public ArregloDinamico( int max, double factorCrecimiento )
+	{
+    	if (factorCrecimiento <= 1) throw new IllegalArgumentException("El factor de crecimiento debe ser mayor a 1");
     	elementos = (T[]) new Object[max];
         tamanoMax = max;
         tamanoAct = 0;
+        this.factorCrecimiento = factorCrecimiento;
     }
 	
 	/**
       * Construir un arreglo con una capacidad maxima temporal de 2
       */
 	public ArregloDinamico() {
-		elementos = (T[]) new Object[2];
-        tamanoMax = 2;
-        tamanoAct = 0;
+		this(CAPACIDAD_MINIMA);
     }
     
 	/*
@@ -51,12 +79,7 @@ public class ArregloDinamico<T> implements IArregloDinamico<T> {
 		//if (dato == null) throw new IllegalArgumentException("No se puede agregar un elemento nulo al arreglo");
 		// caso de arreglo lleno (aumentar tamaNo)
         if ( tamanoAct == tamanoMax ) {
-        	tamanoMax = 2 * tamanoMax;
-            T[] copia = elementos;
-            elementos = (T[]) new Object[tamanoMax];
-            for ( int i = 0; i < tamanoAct; i++) {
-            	elementos[i] = copia[i];
-            }       
+        	redimensionar(Math.max(tamanoMax + 1, (int) (factorCrecimiento * tamanoMax)));
         }
            
         elementos[tamanoAct] = dato;
@@ -82,27 +105,74 @@ public class ArregloDinamico<T> implements IArregloDinamico<T> {
 		T dato = elementos[n];
 		
 		// Contraer datos
-		for (int k = n + 1; k < tamanoAct; k++) {
-			elementos[k-1] = elementos[k];
-		} elementos[tamanoAct - 1] = null;
+		System.arraycopy(elementos, n + 1, elementos, n, tamanoAct - n - 1);
+		elementos[tamanoAct - 1] = null;
 		
 		// Escrito asi por posible generalizacion
 		int nEliminados = 1;
 		tamanoAct = tamanoAct - nEliminados;
 		
-		// Caso especial: se eliminaron todos los elementos
-		if (tamanoAct == 0) {
-			elementos = (T[]) new Object[2];
-			tamanoMax = 2;
-			return dato;
+		// Reducir la capacidad a la mitad cuando el arreglo queda a un cuarto de su capacidad. Al quedar
+		// a la mitad, hay que agregar o eliminar muchos elementos antes de tener que volver a copiarlo.
+		if (tamanoAct <= tamanoMax/4 && tamanoMax/2 >= CAPACIDAD_MINIMA) {
+			redimensionar(Math.max(tamanoMax/2, CAPACIDAD_MINIMA));
 		}
-					
-		// Revalua el tamanoMax necesario para elementos
-		while (tamanoAct <= tamanoMax/4) tamanoMax = tamanoMax/4;
 		
 		return dato;
 	}
 	
+	/**
+	 * Eliminar de una vez todos los elementos desde la posicion nuevoTamano hasta el final. La capacidad se
+	 * reduce a lo sumo una vez, con la misma regla de eliminarEnPos: si el arreglo queda a un cuarto de su
+	 * capacidad o menos, se deja al doble del nuevo tamano.
+	 * @param nuevoTamano numero de elementos que quedan, entre 0 y darTamano()
+	 */
+	public void recortar(int nuevoTamano) {
+		if (nuevoTamano < 0 || nuevoTamano > tamanoAct) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+		Arrays.fill(elementos, nuevoTamano, tamanoAct, null);
+		tamanoAct = nuevoTamano;
+		
+		if (tamanoAct <= tamanoMax/4 && tamanoMax/2 >= CAPACIDAD_MINIMA) {
+			redimensionar(Math.max(2 * tamanoAct, CAPACIDAD_MINIMA));
+		}
+	}
+	
+	/**
+	 * Retornar la capacidad actual del arreglo
+	 * @return numero de elementos que caben sin tener que aumentar la capacidad
+	 */
+	public int darCapacidad() {
+		return tamanoMax;
+	}
+	
+	/**
+	 * Aumentar la capacidad del arreglo, si es necesario, para que quepan al menos minimo elementos
+	 * sin tener que volver a copiarlo.
+	 * @param minimo capacidad minima requerida
+	 */
+	public void asegurarCapacidad(int minimo) {
+		if (minimo > tamanoMax) redimensionar(minimo);
+	}
+	
+	/**
+	 * Reducir la capacidad del arreglo al numero de elementos que tiene (o a la capacidad minima)
+	 */
+	public void recortarCapacidad() {
+		int capacidad = Math.max(tamanoAct, CAPACIDAD_MINIMA);
+		if (capacidad < tamanoMax) redimensionar(capacidad);
+	}
+	
+	/**
+	 * Copiar los elementos a un nuevo arreglo con la capacidad dada
+	 * @param capacidad nueva capacidad, al menos tamanoAct
+	 */
+	private void redimensionar(int capacidad) {
+		T[] copia = (T[]) new Object[capacidad];
+		System.arraycopy(elementos, 0, copia, 0, tamanoAct);
+		elementos = copia;
+		tamanoMax = capacidad;
+	}
+	
 	@Override
 	public Iterator<T> iterator() {
 		return new Iterator<T>() {
@@ -118,4 +188,13 @@ public class ArregloDinamico<T> implements IArregloDinamico<T> {
 			}
 		};
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Retorna un Spliterator que se parte por la mitad del rango de posiciones, para recorrer el arreglo
+	 * en paralelo (e.g. con StreamSupport.stream(arreglo.spliterator(), true))
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new SpliteratorArreglo<T>(this, 0, tamanoAct, Spliterator.ORDERED);
+	}
+}
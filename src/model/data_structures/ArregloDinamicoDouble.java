@@ -0,0 +1,109 @@
+package model.data_structures;
+
+import java.util.Arrays;
+
+/**
+ * Arreglo dinamico de doubles. Sigue el contrato de IArregloDinamico, pero guarda los datos en un double[]
+ * para no crear un objeto Double por cada elemento.
+ */
+public class ArregloDinamicoDouble {
+
+	/*
+	 * Constantes
+	 */
+	/**
+	 * Capacidad por debajo de la cual no se reduce el arreglo
+	 */
+	private static final int CAPACIDAD_MINIMA = 2;
+
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Numero de elementos en el arreglo (de forma compacta desde la posicion 0)
+	 */
+	private int tamanoAct;
+	/**
+	 * Arreglo de elementos. Su longitud es la capacidad maxima actual.
+	 */
+	private double[] elementos;
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir un arreglo con la capacidad maxima inicial.
+	 * @param max Capacidad maxima inicial
+	 */
+	public ArregloDinamicoDouble(int max) {
+		elementos = new double[max];
+		tamanoAct = 0;
+	}
+
+	/**
+	 * Construir un arreglo con una capacidad maxima temporal de 2
+	 */
+	public ArregloDinamicoDouble() {
+		this(CAPACIDAD_MINIMA);
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * Retornar el numero de elementos en el arreglo
+	 */
+	public int darTamano() {
+		return tamanoAct;
+	}
+
+	/**
+	 * Retornar el elemento en la posicion i
+	 * @param i posicion de consulta
+	 * @throws IllegalArgumentException si no hay elemento en la posicion
+	 */
+	public double darObjeto(int i) {
+		if (i < 0 || tamanoAct <= i) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+		return elementos[i];
+	}
+
+	/**
+	 * Agregar un dato de forma compacta (en la primera casilla disponible), aumentando la capacidad si es necesario.
+	 * @param dato nuevo elemento
+	 */
+	public void agregar(double dato) {
+		if (tamanoAct == elementos.length) {
+			elementos = Arrays.copyOf(elementos, Math.max(CAPACIDAD_MINIMA, 2 * elementos.length));
+		}
+		elementos[tamanoAct] = dato;
+		tamanoAct++;
+	}
+
+	/**
+	 * Cambiar el dato en la posicion dada
+	 * @param i posicion del arreglo a modificar
+	 */
+	public void cambiarEnPos(int i, double dato) {
+		if (i < 0 || tamanoAct <= i) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+		elementos[i] = dato;
+	}
+
+	/**
+	 * Eliminar el dato en la posicion i del arreglo.
+	 * Los datos restantes quedan "compactos" desde la posicion 0.
+	 * @param i Posicion del dato
+	 * @return dato eliminado
+	 * @throws IllegalArgumentException si no hay elemento en la posicion
+	 */
+	public double eliminarEnPos(int i) {
+		double dato = darObjeto(i);
+		System.arraycopy(elementos, i + 1, elementos, i, tamanoAct - i - 1);
+		tamanoAct--;
+
+		// Reducir la capacidad a la mitad cuando el arreglo queda a un cuarto de su capacidad
+		if (tamanoAct <= elementos.length/4 && elementos.length/2 >= CAPACIDAD_MINIMA) {
+			elementos = Arrays.copyOf(elementos, elementos.length/2);
+		}
+		return dato;
+	}
+}
@@ -0,0 +1,157 @@
+package model.data_structures;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * Arreglo dinamico guardado en bloques de tamano fijo. Cuando se llena se agrega un nuevo bloque, por lo que
+ * nunca se copian los elementos existentes ni se necesita un solo arreglo contiguo del tamano total.
+ * Solo se copia el directorio de bloques, que es mucho mas pequeno.
+ */
+@SuppressWarnings("unchecked")
+public class ArregloDinamicoSegmentado<T> implements IArregloDinamico<T> {
+
+	/*
+	 * Constantes
+	 */
+	/**
+	 * log2 del tamano de bloque por defecto (4096 elementos)
+	 */
+	private static final int BITS_BLOQUE = 12;
+
+	/*
+	 * Atributos
+	 */
+	/**
+	 * log2 del tamano de cada bloque
+	 */
+	private final int bitsBloque;
+	/**
+	 * Tamano de cada bloque menos 1. Sirve para hallar la posicion dentro del bloque.
+	 */
+	private final int mascara;
+	/**
+	 * Bloques de elementos. Solo los primeros nBloques estan en uso.
+	 */
+	private T[][] bloques;
+	/**
+	 * Numero de bloques creados
+	 */
+	private int nBloques;
+	/**
+	 * Numero de elementos en el arreglo (de forma compacta desde la posicion 0)
+	 */
+	private int tamanoAct;
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir un arreglo con bloques de 2^bitsBloque elementos
+	 * @param bitsBloque log2 del tamano de bloque, entre 1 y 30
+	 */
+	public ArregloDinamicoSegmentado(int bitsBloque) {
+		if (bitsBloque < 1 || bitsBloque > 30) throw new IllegalArgumentException("El tamano de bloque debe ser 2^k con 1 <= k <= 30");
+		this.bitsBloque = bitsBloque;
+		mascara = (1 << bitsBloque) - 1;
+		bloques = (T[][]) new Object[2][];
+		nBloques = 0;
+		tamanoAct = 0;
+	}
+
+	/**
+	 * Construir un arreglo con bloques de 4096 elementos
+	 */
+	public ArregloDinamicoSegmentado() {
+		this(BITS_BLOQUE);
+	}
+
+	/*
+	 * Metodos
+	 */
+	public void agregar(T dato) {
+		// caso de arreglo lleno (agregar un bloque)
+		if (tamanoAct == (nBloques << bitsBloque)) {
+			// Las posiciones son int, asi que a lo sumo caben Integer.MAX_VALUE elementos
+			if (nBloques == (Integer.MAX_VALUE >>> bitsBloque)) throw new IllegalStateException("El arreglo esta lleno");
+			if (nBloques == bloques.length) {
+				T[][] copia = (T[][]) new Object[2 * bloques.length][];
+				System.arraycopy(bloques, 0, copia, 0, nBloques);
+				bloques = copia;
+			}
+			bloques[nBloques++] = (T[]) new Object[mascara + 1];
+		}
+		bloques[tamanoAct >>> bitsBloque][tamanoAct & mascara] = dato;
+		tamanoAct++;
+	}
+
+	public void cambiarEnPos(int i, T dato) {
+		if (i < 0 || tamanoAct <= i) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+		bloques[i >>> bitsBloque][i & mascara] = dato;
+	}
+
+	public int darTamano() {
+		return tamanoAct;
+	}
+
+	public T darObjeto(int i) {
+		if (i < 0 || i >= tamanoAct) return null;
+		return bloques[i >>> bitsBloque][i & mascara];
+	}
+
+	public T eliminarEnPos(int n) {
+		if (n < 0 || n >= tamanoAct) return null;
+		T dato = darObjeto(n);
+
+		// Contraer datos: correr cada bloque una posicion y pasar su primer elemento al final del bloque anterior
+		int b = n >>> bitsBloque;
+		int ultimoBloque = (tamanoAct - 1) >>> bitsBloque;
+		T[] bloque = bloques[b];
+		int desde = n & mascara;
+		while (true) {
+			int hasta = (b == ultimoBloque) ? ((tamanoAct - 1) & mascara) : mascara;
+			System.arraycopy(bloque, desde + 1, bloque, desde, hasta - desde);
+			if (b == ultimoBloque) {
+				bloque[hasta] = null;
+				break;
+			}
+			bloque[mascara] = bloques[b + 1][0];
+			b++;
+			bloque = bloques[b];
+			desde = 0;
+		}
+		tamanoAct--;
+
+		// Liberar los bloques vacios, dejando uno de reserva para no crearlo de nuevo en el siguiente agregar()
+		int bloquesUsados = (tamanoAct + mascara) >>> bitsBloque;
+		while (nBloques > bloquesUsados + 1) bloques[--nBloques] = null;
+
+		return dato;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int iActual = 0;
+			@Override
+			public boolean hasNext() {
+				return iActual < tamanoAct;
+			}
+			@Override
+			public T next() {
+				T dato = bloques[iActual >>> bitsBloque][iActual & mascara];
+				iActual++;
+				return dato;
+			}
+		};
+	}
+	
+	/**
+	 * Retorna un Spliterator que se parte por la mitad del rango de posiciones, para recorrer el arreglo
+	 * en paralelo (e.g. con StreamSupport.stream(arreglo.spliterator(), true))
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new SpliteratorArreglo<T>(this, 0, tamanoAct, Spliterator.ORDERED);
+	}
+}
@@ -0,0 +1,149 @@
+package model.data_structures;
+
+import java.util.Iterator;
+
+/**
+ * Heap d-ario de maximos. Usa la misma representacion que MaxHeapCP (raiz en la posicion 1), pero cada
+ * nodo k tiene d hijos consecutivos en las posiciones d*(k-1)+2 ... d*k+1. Con d > 2 el arbol es menos
+ * profundo, por lo que agregar() (swim) hace menos comparaciones y accesos a memoria.
+ * @param <T> tipo de los elementos de la cola
+ */
+public class DaryMaxHeapCP<T extends Comparable<T>> implements IColaPrioridad<T> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Numero de hijos de cada nodo
+	 */
+	private final int d;
+	/**
+	 * Elementos del heap, desde la posicion 1
+	 */
+	private ArregloDinamico<T> cp;
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir un heap d-ario vacio
+	 * @param d numero de hijos de cada nodo, d >= 2
+	 */
+	public DaryMaxHeapCP(int d) {
+		if (d < 2) throw new IllegalArgumentException("La aridad del heap debe ser al menos 2");
+		this.d = d;
+		cp = new ArregloDinamico<T>();
+		cp.agregar(null);
+	}
+
+	/**
+	 * Construir un heap d-ario con los elementos de datos en tiempo O(n) (construccion de abajo hacia arriba)
+	 * @param d numero de hijos de cada nodo, d >= 2
+	 * @param datos elementos iniciales de la cola. No se modifica.
+	 */
+	public DaryMaxHeapCP(int d, IArregloDinamico<T> datos) {
+		if (d < 2) throw new IllegalArgumentException("La aridad del heap debe ser al menos 2");
+		this.d = d;
+		cp = new ArregloDinamico<T>(datos.darTamano() + 1);
+		cp.agregar(null);
+		for (T dato : datos) cp.agregar(dato);
+		for (int k = padre(darNumElementos()); k >= 1; k--) sink(k);
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * @return numero de hijos de cada nodo
+	 */
+	public int darAridad() {
+		return d;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int iActual = 1;
+			@Override
+			public boolean hasNext() {
+				return iActual < cp.darTamano();
+			}
+			@Override
+			public T next() {
+				return cp.darObjeto(iActual++);
+			}
+		};
+	}
+
+	@Override
+	public boolean esVacia() {
+		return cp.darTamano() == 1;
+	}
+
+	@Override
+	public int darNumElementos() {
+		return cp.darTamano() - 1;
+	}
+
+	@Override
+	public void agregar(T t) {
+		cp.agregar(t);
+		swim(darNumElementos());
+	}
+
+	@Override
+	public T delMax() {
+		if (esVacia()) return null;
+		T max = cp.darObjeto(1);
+		exch(1, darNumElementos());
+		cp.eliminarEnPos(darNumElementos());
+		sink(1);
+		return max;
+	}
+
+	@Override
+	public T max() {
+		return cp.darObjeto(1);
+	}
+
+	private int padre(int k) {
+		return (k - 2)/d + 1;
+	}
+
+	private int primerHijo(int k) {
+		return d*(k - 1) + 2;
+	}
+
+	private void swim(int k) {
+		while (k > 1 && less(padre(k), k)) {
+			exch(k, padre(k));
+			k = padre(k);
+		}
+	}
+
+	private void sink(int k) {
+		int N = darNumElementos();
+		int j = primerHijo(k);
+		while (j <= N) {
+			// Buscar el mayor de los hijos de k
+			int mayor = j;
+			int ultimo = Math.min(j + d - 1, N);
+			for (int i = j + 1; i <= ultimo; i++) {
+				if (less(mayor, i)) mayor = i;
+			}
+			if (!less(k, mayor)) break;
+			exch(k, mayor);
+			k = mayor;
+			j = primerHijo(k);
+		}
+	}
+
+	private boolean less(int i, int j) {
+		return cp.darObjeto(i).compareTo(cp.darObjeto(j)) < 0;
+	}
+
+	private void exch(int i, int j) {
+		T auxiliar = cp.darObjeto(i);
+		cp.cambiarEnPos(i, cp.darObjeto(j));
+		cp.cambiarEnPos(j, auxiliar);
+	}
+}
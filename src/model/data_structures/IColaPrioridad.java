@@ -30,4 +30,25 @@ public interface IColaPrioridad<T extends Comparable<T>> extends Iterable<T> {
 	 * @return el el elemento de mayor prioridad. null en caso de estar vacia
 	 */
 	public T max();
+	
+	/**
+	 * Inserta todos los elementos dados en la Cola
+	 * @param datos elementos a agregar
+	 */
+	public default void agregarTodos(Iterable<T> datos) {
+		for (T t : datos) agregar(t);
+	}
+	
+	/**
+	 * Quita y retorna los k elementos de mayor prioridad
+	 * @param k numero de elementos a quitar, k >= 0
+	 * @return los elementos eliminados de mayor a menor prioridad. Si hay menos de k elementos, se retornan todos.
+	 */
+	public default IArregloDinamico<T> delMax(int k) {
+		if (k < 0) throw new IllegalArgumentException("No se puede quitar un numero negativo de elementos");
+		int n = Math.min(k, darNumElementos());
+		IArregloDinamico<T> respuesta = new ArregloDinamico<T>(Math.max(n, 1));
+		for (int i = 0; i < n; i++) respuesta.agregar(delMax());
+		return respuesta;
+	}
 }
@@ -0,0 +1,14 @@
+package model.data_structures;
+
+/**
+ * Cola de prioridad que puede unirse con otra del mismo tipo sin reagregar sus elementos uno a uno
+ * @param <T> tipo de los elementos de la cola
+ * @param <C> tipo de la cola con la que se puede unir
+ */
+public interface IColaPrioridadMezclable<T extends Comparable<T>, C extends IColaPrioridadMezclable<T, C>> extends IColaPrioridad<T> {
+	/**
+	 * Pasa todos los elementos de otra cola a esta. La otra cola queda vacia.
+	 * @param otra cola a unir con esta
+	 */
+	public void meld(C otra);
+}
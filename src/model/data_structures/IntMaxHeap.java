@@ -0,0 +1,143 @@
+package model.data_structures;
+
+import java.util.Arrays;
+
+/**
+ * Heap de maximos de parejas (prioridad, id) de enteros, guardadas en 2 arreglos paralelos de int.
+ * No crea un objeto por elemento ni hace boxing, por lo que sirve para ordenar muchos addressIDs
+ * segun su numero de infracciones sin crear un LocationVO por cada uno.
+ * Usa la misma representacion que MaxHeapCP (raiz en la posicion 1).
+ * En caso de empate en la prioridad, se considera mayor el elemento de menor id.
+ */
+public class IntMaxHeap {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Prioridades de los elementos, desde la posicion 1
+	 */
+	private int[] prioridades;
+	/**
+	 * Ids de los elementos, en las mismas posiciones que sus prioridades
+	 */
+	private int[] ids;
+	/**
+	 * Numero de elementos en el heap
+	 */
+	private int n;
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir un heap vacio con la capacidad inicial dada
+	 * @param max capacidad inicial
+	 */
+	public IntMaxHeap(int max) {
+		prioridades = new int[Math.max(max, 1) + 1];
+		ids = new int[prioridades.length];
+		n = 0;
+	}
+
+	/**
+	 * Construir un heap vacio con una capacidad inicial temporal de 2
+	 */
+	public IntMaxHeap() {
+		this(2);
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * Retorna true si el heap esta vacio
+	 */
+	public boolean esVacia() {
+		return n == 0;
+	}
+
+	/**
+	 * Retorna el numero de elementos contenidos
+	 */
+	public int darNumElementos() {
+		return n;
+	}
+
+	/**
+	 * Inserta un nuevo elemento en el heap
+	 * @param prioridad prioridad del elemento (e.g. numero de infracciones)
+	 * @param id identificador del elemento (e.g. addressID)
+	 */
+	public void agregar(int prioridad, int id) {
+		if (n + 1 == prioridades.length) {
+			prioridades = Arrays.copyOf(prioridades, 2*prioridades.length);
+			ids = Arrays.copyOf(ids, prioridades.length);
+		}
+		n++;
+		prioridades[n] = prioridad;
+		ids[n] = id;
+		swim(n);
+	}
+
+	/**
+	 * Quita el elemento de mayor prioridad y retorna su id
+	 * @return id del elemento eliminado
+	 * @throws IllegalStateException si el heap esta vacio
+	 */
+	public int delMax() {
+		int id = maxId();
+		exch(1, n);
+		n--;
+		sink(1);
+		return id;
+	}
+
+	/**
+	 * Retorna el id del elemento de mayor prioridad sin sacarlo
+	 * @throws IllegalStateException si el heap esta vacio
+	 */
+	public int maxId() {
+		if (n == 0) throw new IllegalStateException("El heap esta vacio");
+		return ids[1];
+	}
+
+	/**
+	 * Retorna la prioridad del elemento de mayor prioridad sin sacarlo
+	 * @throws IllegalStateException si el heap esta vacio
+	 */
+	public int maxPrioridad() {
+		if (n == 0) throw new IllegalStateException("El heap esta vacio");
+		return prioridades[1];
+	}
+
+	private void swim(int k) {
+		while (k > 1 && less(k/2, k)) {
+			exch(k, k/2);
+			k = k/2;
+		}
+	}
+
+	private void sink(int k) {
+		while (2*k <= n) {
+			int j = 2*k;
+			if (j < n && less(j, j+1)) j++;
+			if (!less(k, j)) break;
+			exch(k, j);
+			k = j;
+		}
+	}
+
+	private boolean less(int i, int j) {
+		if (prioridades[i] != prioridades[j]) return prioridades[i] < prioridades[j];
+		return ids[i] > ids[j];
+	}
+
+	private void exch(int i, int j) {
+		int auxiliar = prioridades[i];
+		prioridades[i] = prioridades[j];
+		prioridades[j] = auxiliar;
+		auxiliar = ids[i];
+		ids[i] = ids[j];
+		ids[j] = auxiliar;
+	}
+}
@@ -0,0 +1,173 @@
+package model.data_structures;
+
+import java.util.Iterator;
+
+/**
+ * Leftist heap de maximos. Dos colas se unen en tiempo O(log n) recorriendo solo sus espinas derechas,
+ * que tienen a lo sumo log(n+1) nodos. agregar() y delMax() se hacen con uniones, tambien en O(log n).
+ * @param <T> tipo de los elementos de la cola
+ */
+public class LeftistHeapCP<T extends Comparable<T>> implements IColaPrioridadMezclable<T, LeftistHeapCP<T>> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Raiz del arbol. Tiene el elemento de mayor prioridad.
+	 */
+	private NodoLeftist<T> raiz;
+	/**
+	 * Numero de elementos en la cola
+	 */
+	private int tamano;
+
+	/*
+	 * Constructor
+	 */
+	public LeftistHeapCP() {
+		raiz = null;
+		tamano = 0;
+	}
+
+	/*
+	 * Metodos
+	 */
+	@Override
+	public boolean esVacia() {
+		return tamano == 0;
+	}
+
+	@Override
+	public int darNumElementos() {
+		return tamano;
+	}
+
+	@Override
+	public void agregar(T t) {
+		raiz = unir(raiz, new NodoLeftist<T>(t));
+		tamano += 1;
+	}
+
+	@Override
+	public T delMax() {
+		if (tamano == 0) return null;
+		T max = raiz.dato;
+		raiz = unir(raiz.izquierdo, raiz.derecho);
+		tamano -= 1;
+		return max;
+	}
+
+	@Override
+	public T max() {
+		if (tamano == 0) return null;
+		return raiz.dato;
+	}
+
+	/**
+	 * Pasa todos los elementos de otra cola a esta en tiempo O(log n). La otra cola queda vacia.
+	 * @param otra cola a unir con esta
+	 */
+	@Override
+	public void meld(LeftistHeapCP<T> otra) {
+		if (otra == this) return;
+		raiz = unir(raiz, otra.raiz);
+		tamano += otra.tamano;
+		otra.raiz = null;
+		otra.tamano = 0;
+	}
+
+	/**
+	 * Retorna un iterador sobre los elementos, en preorden del arbol
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private ArregloDinamico<NodoLeftist<T>> pendientes = new ArregloDinamico<NodoLeftist<T>>();
+			{
+				if (raiz != null) pendientes.agregar(raiz);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return pendientes.darTamano() > 0;
+			}
+
+			@Override
+			public T next() {
+				NodoLeftist<T> actual = pendientes.eliminarEnPos(pendientes.darTamano() - 1);
+				if (actual.derecho != null) pendientes.agregar(actual.derecho);
+				if (actual.izquierdo != null) pendientes.agregar(actual.izquierdo);
+				return actual.dato;
+			}
+		};
+	}
+
+	/**
+	 * Une 2 arboles bajando por sus espinas derechas, y deja a la izquierda el hijo con mayor rango
+	 * @return la raiz del arbol resultante
+	 */
+	private NodoLeftist<T> unir(NodoLeftist<T> a, NodoLeftist<T> b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		if (a.dato.compareTo(b.dato) < 0) {
+			NodoLeftist<T> auxiliar = a;
+			a = b;
+			b = auxiliar;
+		}
+		a.derecho = unir(a.derecho, b);
+		if (rango(a.izquierdo) < rango(a.derecho)) {
+			NodoLeftist<T> auxiliar = a.izquierdo;
+			a.izquierdo = a.derecho;
+			a.derecho = auxiliar;
+		}
+		a.rango = rango(a.derecho) + 1;
+		return a;
+	}
+
+	/**
+	 * Retorna el numero de nodos de la espina derecha (camino desde la raiz siguiendo siempre el hijo derecho).
+	 * Para pruebas: debe ser a lo sumo log2(n+1).
+	 */
+	int darLargoEspinaDerecha() {
+		int largo = 0;
+		for (NodoLeftist<T> nodo = raiz; nodo != null; nodo = nodo.derecho) largo++;
+		return largo;
+	}
+
+	/**
+	 * Retorna true si todos los nodos cumplen la propiedad leftist (rango del hijo izquierdo mayor o igual
+	 * al del derecho), su rango es correcto y son mayores o iguales que sus hijos. Para pruebas.
+	 */
+	boolean esLeftist() {
+		return esLeftist(raiz);
+	}
+
+	private boolean esLeftist(NodoLeftist<T> nodo) {
+		if (nodo == null) return true;
+		if (rango(nodo.izquierdo) < rango(nodo.derecho) || nodo.rango != rango(nodo.derecho) + 1) return false;
+		if (nodo.izquierdo != null && nodo.izquierdo.dato.compareTo(nodo.dato) > 0) return false;
+		if (nodo.derecho != null && nodo.derecho.dato.compareTo(nodo.dato) > 0) return false;
+		return esLeftist(nodo.izquierdo) && esLeftist(nodo.derecho);
+	}
+
+	/**
+	 * Longitud de la espina derecha de un arbol. 0 para el arbol vacio.
+	 */
+	private int rango(NodoLeftist<T> nodo) {
+		return nodo == null ? 0 : nodo.rango;
+	}
+
+	/**
+	 * Nodo del leftist heap
+	 */
+	private static class NodoLeftist<T> {
+		private T dato;
+		private NodoLeftist<T> izquierdo;
+		private NodoLeftist<T> derecho;
+		private int rango;
+
+		private NodoLeftist(T dato) {
+			this.dato = dato;
+			rango = 1;
+		}
+	}
+}
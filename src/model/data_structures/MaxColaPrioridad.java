@@ -1,22 +1,57 @@
 package model.data_structures;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Random;
 
+/**
+ * Cola de prioridad basada en una skip list ordenada de mayor a menor prioridad.
+ * agregar() toma tiempo O(log n) esperado y delMax() tiempo O(1) esperado.
+ * Los elementos con la misma prioridad salen en el orden en que fueron agregados.
+ */
 public class MaxColaPrioridad<T extends Comparable<T>> implements IColaPrioridad<T> {
+	/*
+	 * Constantes
+	 */
+	/**
+	 * Numero maximo de niveles de la skip list (suficiente para 2^32 elementos)
+	 */
+	private static final int MAX_NIVELES = 32;
+
 	/*
 	 * Atributos
 	 */
 	private int tamano;
-	private IQueue<T> cola;
+	/**
+	 * Nodo centinela: cabeza de la lista en todos los niveles. No guarda ningun elemento.
+	 */
+	private NodoSkip<T> cabeza;
+	/**
+	 * Numero de niveles en uso
+	 */
+	private int niveles;
+	/**
+	 * Generador de los niveles de los nodos
+	 */
+	private Random random;
+	/**
+	 * Arreglo de trabajo de agregar(): ultimo nodo antes del nuevo en cada nivel. Se reutiliza en cada
+	 * llamado para no crear un arreglo por elemento agregado.
+	 */
+	private NodoSkip<T>[] anteriores;
 
 	/*
 	 * Métodos
 	 */
+	@SuppressWarnings("unchecked")
 	public MaxColaPrioridad() {
 		tamano = 0;
-		cola = new Queue<T>();
+		cabeza = new NodoSkip<T>(null, MAX_NIVELES);
+		niveles = 1;
+		random = new Random();
+		anteriores = (NodoSkip<T>[]) new NodoSkip<?>[MAX_NIVELES];
 	}
-	
+
 	public boolean esVacia() {
 		return tamano == 0;
 	}
@@ -26,37 +61,90 @@ public class MaxColaPrioridad<T extends Comparable<T>> implements IColaPrioridad
 	}
 
 	public void agregar(T t) {
-		// Agregar los elementos a una nueva cola en orden
-		boolean agregado = false;
-		Queue<T> colaFinal = new Queue<T>();
-		for(T elemento : cola) {
-			// Agregar el nuevo elemento a la nueva cola en donde corresponda (>: lo agrega al final de los elementos con su misma prioridad)
-			if (!agregado && t.compareTo(elemento) > 0) {
-				colaFinal.enqueue(t); 
-				agregado = true;
+		// Buscar en cada nivel el ultimo nodo con prioridad mayor o igual a t
+		// (>=: lo agrega al final de los elementos con su misma prioridad)
+		NodoSkip<T> actual = cabeza;
+		for (int i = niveles - 1; i >= 0; i--) {
+			while (actual.siguientes[i] != null && actual.siguientes[i].dato.compareTo(t) >= 0) {
+				actual = actual.siguientes[i];
 			}
-			colaFinal.enqueue(cola.dequeue()); // Dequeue de la cola original para no ocupar mas espacio
+			anteriores[i] = actual;
 		}
-		// En  caso de no haberse agregado aun, se agrega al final
-		if (!agregado) colaFinal.enqueue(t);
-		
-		// Reemplazar cola por la nueva cola
-		this.cola = colaFinal;
+
+		// Enlazar el nuevo nodo despues de los anteriores en cada uno de sus niveles
+		int nivel = darNivelAleatorio();
+		for (int i = niveles; i < nivel; i++) anteriores[i] = cabeza;
+		if (nivel > niveles) niveles = nivel;
+
+		NodoSkip<T> nuevo = new NodoSkip<T>(t, nivel);
+		for (int i = 0; i < nivel; i++) {
+			nuevo.siguientes[i] = anteriores[i].siguientes[i];
+			anteriores[i].siguientes[i] = nuevo;
+		}
+		// Solo se usaron los primeros niveles posiciones. Se limpian para no retener nodos que luego se eliminen
+		Arrays.fill(anteriores, 0, niveles, null);
 		tamano +=1;
 	}
 
 	public T delMax() {
 		if (tamano == 0) return null;
+		// El maximo es el primer nodo en todos sus niveles
+		NodoSkip<T> max = cabeza.siguientes[0];
+		for (int i = 0; i < max.siguientes.length; i++) {
+			cabeza.siguientes[i] = max.siguientes[i];
+		}
+		while (niveles > 1 && cabeza.siguientes[niveles - 1] == null) niveles--;
 		tamano-=1;
-		return cola.dequeue();
+		return max.dato;
 	}
 
 	public T max() {
 		if (tamano == 0) return null;
-		return cola.iterator().next();
+		return cabeza.siguientes[0].dato;
 	}
-	
+
 	public Iterator<T> iterator() {
-		return cola.iterator();
+		return new Iterator<T>() {
+			private NodoSkip<T> actual = cabeza.siguientes[0];
+
+			@Override
+			public boolean hasNext() {
+				return actual != null;
+			}
+
+			@Override
+			public T next() {
+				T dato = actual.dato;
+				actual = actual.siguientes[0];
+				return dato;
+			}
+		};
+	}
+
+	/**
+	 * Retorna un nivel entre 1 y MAX_NIVELES, con probabilidad 1/2^k de ser mayor que k
+	 */
+	private int darNivelAleatorio() {
+		int nivel = 1;
+		int bits = random.nextInt();
+		while (nivel < MAX_NIVELES && (bits & 1) == 1) {
+			nivel++;
+			bits >>>= 1;
+		}
+		return nivel;
+	}
+
+	/**
+	 * Nodo de la skip list. Conoce el siguiente nodo en cada uno de sus niveles.
+	 */
+	private static class NodoSkip<T> {
+		private T dato;
+		private NodoSkip<T>[] siguientes;
+
+		@SuppressWarnings("unchecked")
+		private NodoSkip(T dato, int nivel) {
+			this.dato = dato;
+			siguientes = (NodoSkip<T>[]) new NodoSkip<?>[nivel];
+		}
 	}
 }
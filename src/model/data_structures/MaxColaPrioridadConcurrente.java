@@ -0,0 +1,126 @@
+package model.data_structures;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola de prioridad que puede ser usada por varios hilos a la vez sin un candado global.
+ * Esta basada en una skip list concurrente sin candados (ConcurrentSkipListSet): agregar() es O(log n)
+ * esperado y delMax() saca el primer nodo de la lista.
+ * Los elementos con la misma prioridad salen en el orden en que fueron agregados, como en MaxColaPrioridad.
+ * @param <T> tipo de los elementos de la cola
+ */
+public class MaxColaPrioridadConcurrente<T extends Comparable<T>> implements IColaPrioridad<T> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Elementos de la cola ordenados de mayor a menor prioridad
+	 */
+	private final ConcurrentSkipListSet<Entrada<T>> lista;
+	/**
+	 * Numero de orden de llegada para el siguiente elemento. Distingue elementos de igual prioridad.
+	 */
+	private final AtomicLong siguienteOrden;
+	/**
+	 * Numero de elementos en la cola
+	 */
+	private final AtomicInteger tamano;
+
+	/*
+	 * Constructor
+	 */
+	public MaxColaPrioridadConcurrente() {
+		lista = new ConcurrentSkipListSet<Entrada<T>>(new Comparator<Entrada<T>>() {
+			@Override
+			public int compare(Entrada<T> e1, Entrada<T> e2) {
+				int comparacion = e2.dato.compareTo(e1.dato);
+				if (comparacion != 0) return comparacion;
+				return Long.compare(e1.orden, e2.orden);
+			}
+		});
+		siguienteOrden = new AtomicLong();
+		tamano = new AtomicInteger();
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * Retorna true si la Cola esta vacia. Con otros hilos modificando la cola, el resultado puede
+	 * cambiar en cuanto se retorna.
+	 */
+	@Override
+	public boolean esVacia() {
+		return lista.isEmpty();
+	}
+
+	/**
+	 * Retorna el numero de elementos contenidos. Con otros hilos modificando la cola, es un valor aproximado.
+	 */
+	@Override
+	public int darNumElementos() {
+		return tamano.get();
+	}
+
+	@Override
+	public void agregar(T t) {
+		// Se incrementa antes de agregar para que un delMax() concurrente nunca deje el tamano negativo
+		tamano.incrementAndGet();
+		lista.add(new Entrada<T>(t, siguienteOrden.getAndIncrement()));
+	}
+
+	@Override
+	public T delMax() {
+		Entrada<T> max = lista.pollFirst();
+		if (max == null) return null;
+		tamano.decrementAndGet();
+		return max.dato;
+	}
+
+	@Override
+	public T max() {
+		// Otro hilo puede vaciar la cola antes de first()
+		try {
+			return lista.first().dato;
+		} catch (NoSuchElementException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Retorna un iterador de mayor a menor prioridad. No lanza excepciones si otros hilos modifican la cola,
+	 * pero puede o no reflejar esas modificaciones.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<Entrada<T>> iterador = lista.iterator();
+		return new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				return iterador.hasNext();
+			}
+			@Override
+			public T next() {
+				return iterador.next().dato;
+			}
+		};
+	}
+
+	/**
+	 * Elemento de la cola junto con su orden de llegada
+	 */
+	private static class Entrada<T> {
+		private final T dato;
+		private final long orden;
+
+		private Entrada(T dato, long orden) {
+			this.dato = dato;
+			this.orden = orden;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package model.data_structures;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 public class MaxHeapCP <T extends Comparable<T>> implements IColaPrioridad<T>{
 
@@ -13,11 +15,45 @@ private ArregloDinamico<T> cp;
 		cp.agregar(null);
 	}
 	
+	/**
+	 * Construir un heap con los elementos de datos en tiempo O(n), ubicandolos en el orden dado
+	 * y luego aplicando sink desde el ultimo padre hasta la raiz (construccion de abajo hacia arriba).
+	 * @param datos elementos iniciales de la cola. No se modifica.
+	 */
+	public MaxHeapCP(IArregloDinamico<T> datos){
+		cp = new ArregloDinamico<T>(datos.darTamano() + 1);
+		cp.agregar(null);
+		for (T dato : datos) cp.agregar(dato);
+		for (int k = darNumElementos()/2; k >= 1; k--) sink(k, darNumElementos());
+	}
+	
 	
 	
+	/**
+	 * Retorna un iterador sobre los elementos en el orden del arreglo del heap (sin la posicion 0, que no se usa)
+	 */
 	@Override
 	public Iterator<T> iterator() {
-		return cp.iterator();
+		return new Iterator<T>() {
+			int iActual = 1;
+			@Override
+			public boolean hasNext() {
+				return iActual < cp.darTamano();
+			}
+			@Override
+			public T next() {
+				return cp.darObjeto(iActual++);
+			}
+		};
+	}
+	
+	/**
+	 * Retorna un Spliterator sobre los elementos en el orden del arreglo del heap, que se parte por la mitad
+	 * para recorrerlos en paralelo
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new SpliteratorArreglo<T>(cp, 1, cp.darTamano(), 0);
 	}
 
 	@Override
@@ -36,6 +72,25 @@ private ArregloDinamico<T> cp;
 		swim(darNumElementos());
 	}
 
+	/**
+	 * Inserta todos los elementos dados. Si son al menos tantos como los que ya hay en la cola, se reconstruye
+	 * el heap de abajo hacia arriba en O(n); si no, se hace swim de cada uno como en agregar().
+	 * @param datos elementos a agregar
+	 */
+	@Override
+	public void agregarTodos(Iterable<T> datos){
+		int anterior = darNumElementos();
+		for (T dato : datos) cp.agregar(dato);
+		int nuevos = darNumElementos() - anterior;
+		
+		if (nuevos >= anterior) {
+			for (int k = darNumElementos()/2; k >= 1; k--) sink(k, darNumElementos());
+		}
+		else {
+			for (int k = anterior + 1; k <= darNumElementos(); k++) swim(k);
+		}
+	}
+
 	public T delMax() {
 	
 
@@ -43,10 +98,35 @@ private ArregloDinamico<T> cp;
 		T max = cp.darObjeto(1);
 		exch(1,darNumElementos());
 		cp.eliminarEnPos(darNumElementos());
-		sink(1);
+		sink(1, darNumElementos());
 		
 		return max;
 	}
+	
+	/**
+	 * Quita y retorna los k elementos de mayor prioridad en una sola pasada: cada maximo se pasa al final
+	 * del heap (como en heapsort) y al final se recortan todos juntos del arreglo, copiandolo a lo sumo una vez.
+	 * @param k numero de elementos a quitar, k >= 0
+	 * @return los elementos eliminados de mayor a menor prioridad. Si hay menos de k elementos, se retornan todos.
+	 */
+	@Override
+	public IArregloDinamico<T> delMax(int k) {
+		if (k < 0) throw new IllegalArgumentException("No se puede quitar un numero negativo de elementos");
+		int total = darNumElementos();
+		int n = Math.min(k, total);
+		
+		int N = total;
+		for (int i = 0; i < n; i++) {
+			exch(1, N);
+			N--;
+			sink(1, N);
+		}
+		
+		IArregloDinamico<T> respuesta = new ArregloDinamico<T>(Math.max(n, 1));
+		for (int pos = total; pos > N; pos--) respuesta.agregar(cp.darObjeto(pos));
+		cp.recortar(N + 1);
+		return respuesta;
+	}
 
 	@Override
 	public T max() {
@@ -63,16 +143,39 @@ private ArregloDinamico<T> cp;
 		
 	}
 	
-	private void sink(int k){
-		
-		int N = darNumElementos();
+	private void sink(int k, int N){
+		sink(cp, k, N, 0, Comparator.<T>naturalOrder());
+	}
+	
+	/**
+	 * Hundir el dato en la posicion k de un heap de maximos de N elementos, donde la posicion p del heap
+	 * (1..N) esta en datos[p + desfase]. En vez de intercambiar en cada nivel, sube los hijos mayores y
+	 * escribe el dato una sola vez en su posicion final.
+	 * La usan esta cola (desfase 0, la posicion 0 no se usa) y Sort.ordenarHeapSort (desfase -1).
+	 * @param datos arreglo que contiene el heap
+	 * @param k posicion en el heap del dato a hundir, 1 <= k <= N
+	 * @param N numero de elementos del heap
+	 * @param desfase diferencia entre la posicion en datos y la posicion en el heap
+	 * @param c comparador que define la prioridad
+	 */
+	public static <T> void sink(IArregloDinamico<T> datos, int k, int N, int desfase, Comparator<T> c){
+		if(2*k>N) return;
+		T dato = datos.darObjeto(k + desfase);
 		while(2*k<=N){
 			int j = 2*k;
-			if(j<N && less(j,j+1)) j++;
-			if(!less(k,j)) break;
-			exch(k,j);
+			T hijo = datos.darObjeto(j + desfase);
+			if(j<N){
+				T otro = datos.darObjeto(j + 1 + desfase);
+				if(c.compare(hijo, otro) < 0){
+					j++;
+					hijo = otro;
+				}
+			}
+			if(c.compare(dato, hijo) >= 0) break;
+			datos.cambiarEnPos(k + desfase, hijo);
 			k = j;
 		}
+		datos.cambiarEnPos(k + desfase, dato);
 	}
 	
 	private boolean less (int i, int j){
@@ -0,0 +1,209 @@
+package model.data_structures;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Variante de MaxHeapCP que conoce la posicion de cada elemento dentro del heap a partir de una llave
+ * (e.g. el addressID de un LocationVO). Permite cambiar la prioridad de un elemento que ya esta en la
+ * cola, o eliminarlo, en tiempo O(log n) sin reconstruir el heap.
+ * @param <K> tipo de la llave que identifica a cada elemento
+ * @param <T> tipo de los elementos de la cola
+ */
+public class MaxHeapCPIndexado<K, T extends Comparable<T>> implements IColaPrioridad<T> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Elementos del heap, desde la posicion 1
+	 */
+	private ArregloDinamico<T> cp;
+	/**
+	 * Posicion dentro de cp del elemento con cada llave
+	 */
+	private HashMap<K, Integer> posiciones;
+	/**
+	 * Funcion que da la llave de un elemento
+	 */
+	private Function<T, K> llave;
+
+	/*
+	 * Constructor
+	 */
+	/**
+	 * Construir un heap indexado vacio
+	 * @param llave funcion que da la llave de cada elemento. Dos elementos en la cola no pueden tener la misma llave.
+	 */
+	public MaxHeapCPIndexado(Function<T, K> llave) {
+		this.llave = llave;
+		cp = new ArregloDinamico<T>();
+		cp.agregar(null);
+		posiciones = new HashMap<K, Integer>();
+	}
+
+	/*
+	 * Metodos
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int iActual = 1;
+			@Override
+			public boolean hasNext() {
+				return iActual < cp.darTamano();
+			}
+			@Override
+			public T next() {
+				return cp.darObjeto(iActual++);
+			}
+		};
+	}
+
+	@Override
+	public boolean esVacia() {
+		return cp.darTamano() == 1;
+	}
+
+	@Override
+	public int darNumElementos() {
+		return cp.darTamano() - 1;
+	}
+
+	/**
+	 * Inserta un nuevo elemento en la Cola
+	 * @param t el nuevo elemento. Su llave no puede estar ya en la cola.
+	 */
+	@Override
+	public void agregar(T t) {
+		K k = llave.apply(t);
+		if (posiciones.containsKey(k)) throw new IllegalArgumentException("Ya existe un elemento con la llave " + k);
+		cp.agregar(t);
+		posiciones.put(k, darNumElementos());
+		swim(darNumElementos());
+	}
+
+	@Override
+	public T delMax() {
+		if (esVacia()) return null;
+		T max = cp.darObjeto(1);
+		eliminarEnPos(1);
+		return max;
+	}
+
+	@Override
+	public T max() {
+		return cp.darObjeto(1);
+	}
+
+	/**
+	 * Retorna true si hay un elemento con la llave dada en la cola
+	 * @param k llave de consulta
+	 */
+	public boolean contiene(K k) {
+		return posiciones.containsKey(k);
+	}
+
+	/**
+	 * Retorna el elemento con la llave dada sin sacarlo
+	 * @param k llave de consulta
+	 * @return el elemento. null si no hay elemento con esa llave
+	 */
+	public T darElemento(K k) {
+		Integer pos = posiciones.get(k);
+		if (pos == null) return null;
+		return cp.darObjeto(pos);
+	}
+
+	/**
+	 * Reemplaza el elemento con la llave dada por uno nuevo con la misma llave y reubica el nuevo
+	 * elemento segun su prioridad
+	 * @param k llave del elemento a reemplazar
+	 * @param nuevo elemento que lo reemplaza
+	 */
+	public void cambiarPrioridad(K k, T nuevo) {
+		int pos = darPosicion(k);
+		if (!k.equals(llave.apply(nuevo))) throw new IllegalArgumentException("El nuevo elemento debe tener la llave " + k);
+		cp.cambiarEnPos(pos, nuevo);
+		swim(pos);
+		sink(posiciones.get(k));
+	}
+
+	/**
+	 * Reubica el elemento con la llave dada despues de que su prioridad aumento
+	 * (e.g. despues de LocationVO.changeNumberOrRegs con un numero mayor)
+	 * @param k llave del elemento modificado
+	 */
+	public void increaseKey(K k) {
+		swim(darPosicion(k));
+	}
+
+	/**
+	 * Reubica el elemento con la llave dada despues de que su prioridad disminuyo
+	 * @param k llave del elemento modificado
+	 */
+	public void decreaseKey(K k) {
+		sink(darPosicion(k));
+	}
+
+	/**
+	 * Quita y retorna el elemento con la llave dada
+	 * @param k llave del elemento a eliminar
+	 * @return el elemento eliminado. null si no hay elemento con esa llave
+	 */
+	public T eliminar(K k) {
+		Integer pos = posiciones.get(k);
+		if (pos == null) return null;
+		T dato = cp.darObjeto(pos);
+		eliminarEnPos(pos);
+		return dato;
+	}
+
+	private int darPosicion(K k) {
+		Integer pos = posiciones.get(k);
+		if (pos == null) throw new IllegalArgumentException("No existe un elemento con la llave " + k);
+		return pos;
+	}
+
+	private void eliminarEnPos(int pos) {
+		int N = darNumElementos();
+		exch(pos, N);
+		posiciones.remove(llave.apply(cp.eliminarEnPos(N)));
+		// El elemento que quedo en pos puede tener que subir o bajar
+		if (pos < N) {
+			K movido = llave.apply(cp.darObjeto(pos));
+			swim(pos);
+			sink(posiciones.get(movido));
+		}
+	}
+
+	private void swim(int k) {
+		while (k > 1 && less(k/2, k)) {
+			exch(k, k/2);
+			k = k/2;
+		}
+	}
+
+	private void sink(int k) {
+		int N = darNumElementos();
+		while (2*k <= N) {
+			int j = 2*k;
+			if (j < N && less(j, j+1)) j++;
+			if (!less(k, j)) break;
+			exch(k, j);
+			k = j;
+		}
+	}
+
+	private boolean less(int i, int j) {
+		return cp.darObjeto(i).compareTo(cp.darObjeto(j)) < 0;
+	}
+
+	private void exch(int i, int j) {
+		T auxiliar = cp.darObjeto(i);
+		cp.cambiarEnPos(i, cp.darObjeto(j));
+		cp.cambiarEnPos(j, auxiliar);
+		posiciones.put(llave.apply(cp.darObjeto(i)), i);
+		posiciones.put(llave.apply(cp.darObjeto(j)), j);
+	}
+}
@@ -0,0 +1,169 @@
+package model.data_structures;
+
+import java.util.Iterator;
+
+/**
+ * Pairing heap de maximos. agregar() y meld() toman tiempo O(1) y delMax() tiempo O(log n) amortizado,
+ * por lo que conviene cuando se agregan muchos mas elementos de los que se sacan.
+ * @param <T> tipo de los elementos de la cola
+ */
+public class PairingHeapCP<T extends Comparable<T>> implements IColaPrioridadMezclable<T, PairingHeapCP<T>> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Raiz del arbol. Tiene el elemento de mayor prioridad.
+	 */
+	private NodoPairing<T> raiz;
+	/**
+	 * Numero de elementos en la cola
+	 */
+	private int tamano;
+
+	/*
+	 * Constructor
+	 */
+	public PairingHeapCP() {
+		raiz = null;
+		tamano = 0;
+	}
+
+	/*
+	 * Metodos
+	 */
+	@Override
+	public boolean esVacia() {
+		return tamano == 0;
+	}
+
+	@Override
+	public int darNumElementos() {
+		return tamano;
+	}
+
+	@Override
+	public void agregar(T t) {
+		raiz = unir(raiz, new NodoPairing<T>(t));
+		tamano += 1;
+	}
+
+	@Override
+	public T delMax() {
+		if (tamano == 0) return null;
+		T max = raiz.dato;
+		raiz = unirHijos(raiz.hijo);
+		tamano -= 1;
+		return max;
+	}
+
+	@Override
+	public T max() {
+		if (tamano == 0) return null;
+		return raiz.dato;
+	}
+
+	/**
+	 * Pasa todos los elementos de otra cola a esta en tiempo O(1). La otra cola queda vacia.
+	 * @param otra cola a unir con esta
+	 */
+	@Override
+	public void meld(PairingHeapCP<T> otra) {
+		if (otra == this) return;
+		raiz = unir(raiz, otra.raiz);
+		tamano += otra.tamano;
+		otra.raiz = null;
+		otra.tamano = 0;
+	}
+
+	/**
+	 * Retorna un iterador sobre los elementos, sin un orden particular
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			// Nodos por visitar: cada nodo visitado agrega su primer hijo y su siguiente hermano
+			private ArregloDinamico<NodoPairing<T>> pendientes = new ArregloDinamico<NodoPairing<T>>();
+			{
+				if (raiz != null) pendientes.agregar(raiz);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return pendientes.darTamano() > 0;
+			}
+
+			@Override
+			public T next() {
+				NodoPairing<T> actual = pendientes.eliminarEnPos(pendientes.darTamano() - 1);
+				if (actual.hermano != null) pendientes.agregar(actual.hermano);
+				if (actual.hijo != null) pendientes.agregar(actual.hijo);
+				return actual.dato;
+			}
+		};
+	}
+
+	/**
+	 * Une 2 arboles dejando como hijo al de menor raiz
+	 * @return la raiz del arbol resultante
+	 */
+	private NodoPairing<T> unir(NodoPairing<T> a, NodoPairing<T> b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		if (a.dato.compareTo(b.dato) < 0) {
+			NodoPairing<T> auxiliar = a;
+			a = b;
+			b = auxiliar;
+		}
+		b.hermano = a.hijo;
+		a.hijo = b;
+		return a;
+	}
+
+	/**
+	 * Une una lista de hermanos en un solo arbol en 2 pasadas: primero se unen por parejas de izquierda a
+	 * derecha, y luego se unen los resultados de derecha a izquierda.
+	 * @param primero primer nodo de la lista de hermanos
+	 * @return la raiz del arbol resultante
+	 */
+	private NodoPairing<T> unirHijos(NodoPairing<T> primero) {
+		// Primera pasada: los resultados quedan enlazados en orden inverso, usando el campo hermano
+		NodoPairing<T> parejas = null;
+		while (primero != null) {
+			NodoPairing<T> a = primero;
+			NodoPairing<T> b = a.hermano;
+			if (b == null) {
+				primero = null;
+			} else {
+				primero = b.hermano;
+				b.hermano = null;
+			}
+			a.hermano = null;
+			NodoPairing<T> unido = unir(a, b);
+			unido.hermano = parejas;
+			parejas = unido;
+		}
+
+		// Segunda pasada: unir desde el ultimo resultado hasta el primero
+		NodoPairing<T> resultado = null;
+		while (parejas != null) {
+			NodoPairing<T> siguiente = parejas.hermano;
+			parejas.hermano = null;
+			resultado = unir(resultado, parejas);
+			parejas = siguiente;
+		}
+		return resultado;
+	}
+
+	/**
+	 * Nodo del pairing heap. Conoce su primer hijo y su siguiente hermano.
+	 */
+	private static class NodoPairing<T> {
+		private T dato;
+		private NodoPairing<T> hijo;
+		private NodoPairing<T> hermano;
+
+		private NodoPairing(T dato) {
+			this.dato = dato;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package model.data_structures;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Implementacion de IQueue, interfaz para una cola como estructura de datos abstracta
@@ -41,6 +43,58 @@ public class Queue<T> implements IQueue<T> {
 		};
 	}
 
+	
+	/**
+	 * Retorna un Spliterator de la cola desde el primer elemento. Al partirse, recorre la mitad de los nodos
+	 * restantes para dar 2 partes de igual tamano.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new SpliteratorCola(first, size);
+	}
+	
+	/**
+	 * Spliterator sobre un numero dado de nodos consecutivos de la cola
+	 */
+	private class SpliteratorCola implements Spliterator<T> {
+		private Nodo<T> actual;	// Siguiente nodo a recorrer
+		private int restantes;	// Numero de nodos por recorrer
+
+		private SpliteratorCola(Nodo<T> actual, int restantes) {
+			this.actual = actual;
+			this.restantes = restantes;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> accion) {
+			if (restantes == 0) return false;
+			T dato = actual.darObjeto();
+			actual = actual.darSiguiente();
+			restantes--;
+			accion.accept(dato);
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int mitad = restantes / 2;
+			if (mitad == 0) return null;
+			SpliteratorCola prefijo = new SpliteratorCola(actual, mitad);
+			for (int i = 0; i < mitad; i++) actual = actual.darSiguiente();
+			restantes -= mitad;
+			return prefijo;
+		}
+
+		@Override
+		public long estimateSize() {
+			return restantes;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
 
 	/**
 	 * @return true si esta vac�a, false de lo contrario
@@ -83,6 +137,8 @@ public class Queue<T> implements IQueue<T> {
 		first = primeroEnFila.darSiguiente();
 
 		size--;
+		// Si la cola quedo vacia, no mantener referencia al nodo que salio
+		if (size == 0) ultimo = null;
 		return primeroEnFila.darObjeto();
 	}
 
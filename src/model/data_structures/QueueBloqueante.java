@@ -0,0 +1,323 @@
+package model.data_structures;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementacion de IQueue de capacidad fija para pasar datos entre hilos con contrapresion: un hilo que
+ * agrega a la cola llena espera a que se saquen elementos, y un hilo que saca de la cola vacia puede esperar
+ * a que se agreguen. Asi, por ejemplo, los hilos que leen archivos CSV no pueden adelantarse mas de
+ * "capacidad" infracciones al hilo que las procesa.
+ * Guarda estadisticas de ocupacion y de tiempo bloqueado para escoger la capacidad.
+ */
+@SuppressWarnings("unchecked")
+public class QueueBloqueante<T> implements IQueue<T> {
+	/*
+	 * Variables
+	 */
+	private final T[] elementos;	// Arreglo circular de elementos
+	private int primero;			// Posicion del elemento agregado menos recientemente
+	private int size;				// Tamano de la cola
+
+	private final ReentrantLock candado;
+	private final Condition hayEspacio;	// Se avisa cuando se saca un elemento
+	private final Condition hayDatos;	// Se avisa cuando se agrega un elemento
+
+	// Estadisticas
+	private int ocupacionMaxima;	// Maximo tamano que ha tenido la cola
+	private long nanosBloqueadoAgregar;	// Tiempo total que han esperado los hilos que agregan
+	private long nanosBloqueadoSacar;	// Tiempo total que han esperado los hilos que sacan
+	private long vecesLlena;		// Numero de veces que un hilo encontro la cola llena al agregar
+
+	/*
+	 * Constructor
+	 */
+	/**
+	 * Construir una cola vacia con la capacidad dada
+	 * @param capacidad numero maximo de elementos, capacidad > 0
+	 */
+	public QueueBloqueante(int capacidad) {
+		if (capacidad <= 0) throw new IllegalArgumentException("La capacidad debe ser positiva");
+		elementos = (T[]) new Object[capacidad];
+		primero = 0;
+		size = 0;
+		candado = new ReentrantLock();
+		hayEspacio = candado.newCondition();
+		hayDatos = candado.newCondition();
+	}
+
+	/**
+	 * Retorna un iterador sobre una copia de los elementos que hay en la cola en el momento del llamado
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		candado.lock();
+		try {
+			T[] copia = (T[]) new Object[size];
+			for (int i = 0; i < size; i++) copia[i] = elementos[(primero + i) % elementos.length];
+			return new Iterator<T>() {
+				private int iActual = 0;
+
+				@Override
+				public boolean hasNext() {
+					return iActual < copia.length;
+				}
+
+				@Override
+				public T next() {
+					return copia[iActual++];
+				}
+			};
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return true si esta vacia, false de lo contrario
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return el tamano de la cola
+	 */
+	public int size() {
+		candado.lock();
+		try {
+			return size;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return el numero maximo de elementos de la cola
+	 */
+	public int darCapacidad() {
+		return elementos.length;
+	}
+
+	/**
+	 * agrega un elemento a la cola. Si esta llena, espera a que haya espacio (sin responder a interrupciones)
+	 */
+	public void enqueue(T t) {
+		candado.lock();
+		try {
+			if (size == elementos.length) {
+				vecesLlena++;
+				long inicio = System.nanoTime();
+				while (size == elementos.length) hayEspacio.awaitUninterruptibly();
+				nanosBloqueadoAgregar += System.nanoTime() - inicio;
+			}
+			agregarConCandado(t);
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * agrega un elemento a la cola. Si esta llena, espera a que haya espacio.
+	 * @throws InterruptedException si el hilo es interrumpido mientras espera
+	 */
+	public void put(T t) throws InterruptedException {
+		candado.lockInterruptibly();
+		try {
+			if (size == elementos.length) {
+				vecesLlena++;
+				long inicio = System.nanoTime();
+				try {
+					while (size == elementos.length) hayEspacio.await();
+				} finally {
+					nanosBloqueadoAgregar += System.nanoTime() - inicio;
+				}
+			}
+			agregarConCandado(t);
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * agrega un elemento a la cola, esperando a lo sumo el tiempo dado a que haya espacio
+	 * @return true si se agrego, false si la cola siguio llena durante todo el tiempo
+	 * @throws InterruptedException si el hilo es interrumpido mientras espera
+	 */
+	public boolean offer(T t, long tiempo, TimeUnit unidad) throws InterruptedException {
+		long nanos = unidad.toNanos(tiempo);
+		candado.lockInterruptibly();
+		try {
+			if (size == elementos.length) {
+				vecesLlena++;
+				long inicio = System.nanoTime();
+				try {
+					while (size == elementos.length) {
+						if (nanos <= 0) return false;
+						nanos = hayEspacio.awaitNanos(nanos);
+					}
+				} finally {
+					nanosBloqueadoAgregar += System.nanoTime() - inicio;
+				}
+			}
+			agregarConCandado(t);
+			return true;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * quita un elemento de la cola sin esperar
+	 * @return el elemento agregado menos recientemente. null si la cola esta vacia
+	 */
+	public T dequeue() {
+		candado.lock();
+		try {
+			if (size == 0) return null;
+			return sacarConCandado();
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * quita un elemento de la cola. Si esta vacia, espera a que se agregue uno.
+	 * @return el elemento agregado menos recientemente
+	 * @throws InterruptedException si el hilo es interrumpido mientras espera
+	 */
+	public T take() throws InterruptedException {
+		candado.lockInterruptibly();
+		try {
+			if (size == 0) {
+				long inicio = System.nanoTime();
+				try {
+					while (size == 0) hayDatos.await();
+				} finally {
+					nanosBloqueadoSacar += System.nanoTime() - inicio;
+				}
+			}
+			return sacarConCandado();
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * quita un elemento de la cola, esperando a lo sumo el tiempo dado a que se agregue uno
+	 * @return el elemento agregado menos recientemente. null si la cola siguio vacia durante todo el tiempo
+	 * @throws InterruptedException si el hilo es interrumpido mientras espera
+	 */
+	public T poll(long tiempo, TimeUnit unidad) throws InterruptedException {
+		long nanos = unidad.toNanos(tiempo);
+		candado.lockInterruptibly();
+		try {
+			if (size == 0) {
+				long inicio = System.nanoTime();
+				try {
+					while (size == 0) {
+						if (nanos <= 0) return null;
+						nanos = hayDatos.awaitNanos(nanos);
+					}
+				} finally {
+					nanosBloqueadoSacar += System.nanoTime() - inicio;
+				}
+			}
+			return sacarConCandado();
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * quita hasta max elementos de la cola, sin esperar, y los agrega en orden al destino
+	 * @param destino arreglo al que se agregan los elementos
+	 * @param max numero maximo de elementos a quitar, max >= 0
+	 * @return numero de elementos quitados
+	 */
+	public int drainTo(IArregloDinamico<T> destino, int max) {
+		if (max < 0) throw new IllegalArgumentException("No se puede quitar un numero negativo de elementos");
+		candado.lock();
+		try {
+			int n = Math.min(max, size);
+			for (int i = 0; i < n; i++) {
+				destino.agregar(elementos[primero]);
+				elementos[primero] = null;
+				primero = (primero + 1) % elementos.length;
+			}
+			size -= n;
+			if (n > 0) hayEspacio.signalAll();
+			return n;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return el maximo numero de elementos que ha tenido la cola
+	 */
+	public int darOcupacionMaxima() {
+		candado.lock();
+		try {
+			return ocupacionMaxima;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return numero de veces que un hilo encontro la cola llena al agregar
+	 */
+	public long darVecesLlena() {
+		candado.lock();
+		try {
+			return vecesLlena;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return tiempo total, en nanosegundos, que han esperado los hilos que agregan porque la cola estaba llena
+	 */
+	public long darNanosBloqueadoAgregar() {
+		candado.lock();
+		try {
+			return nanosBloqueadoAgregar;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * @return tiempo total, en nanosegundos, que han esperado los hilos que sacan porque la cola estaba vacia
+	 */
+	public long darNanosBloqueadoSacar() {
+		candado.lock();
+		try {
+			return nanosBloqueadoSacar;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	// Requiere el candado y que haya espacio
+	private void agregarConCandado(T t) {
+		elementos[(primero + size) % elementos.length] = t;
+		size += 1;
+		if (size > ocupacionMaxima) ocupacionMaxima = size;
+		hayDatos.signal();
+	}
+
+	// Requiere el candado y que haya al menos un elemento
+	private T sacarConCandado() {
+		T dato = elementos[primero];
+		elementos[primero] = null;
+		primero = (primero + 1) % elementos.length;
+		size--;
+		hayEspacio.signal();
+		return dato;
+	}
+}
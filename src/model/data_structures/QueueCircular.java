@@ -0,0 +1,115 @@
+package model.data_structures;
+
+import java.util.Iterator;
+
+/**
+ * Implementacion de IQueue sobre un arreglo circular. A diferencia de Queue, no crea un nodo por cada
+ * elemento agregado y los elementos quedan contiguos en memoria.
+ */
+@SuppressWarnings("unchecked")
+public class QueueCircular<T> implements IQueue<T> {
+	/*
+	 * Constantes
+	 */
+	/**
+	 * Capacidad por debajo de la cual no se reduce el arreglo
+	 */
+	private static final int CAPACIDAD_MINIMA = 2;
+
+	/*
+	 * Atributos
+	 */
+	private T[] elementos;	// Arreglo circular de elementos
+	private int primero;	// Posicion del elemento agregado menos recientemente
+	private int size;		// Tamano de la cola
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir una cola vacia con la capacidad inicial dada
+	 * @param max capacidad inicial
+	 */
+	public QueueCircular(int max) {
+		elementos = (T[]) new Object[Math.max(max, CAPACIDAD_MINIMA)];
+		primero = 0;
+		size = 0;
+	}
+
+	/**
+	 * Construir una cola vacia con una capacidad inicial temporal de 2
+	 */
+	public QueueCircular() {
+		this(CAPACIDAD_MINIMA);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private int iActual = 0;
+
+			@Override
+			public boolean hasNext() {
+				return iActual < size;
+			}
+
+			@Override
+			public T next() {
+				return elementos[(primero + iActual++) % elementos.length];
+			}
+		};
+	}
+
+	/**
+	 * @return true si esta vacia, false de lo contrario
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return el tamano de la cola
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * agrega un elemento a la cola
+	 */
+	public void enqueue(T t) {
+		if (size == elementos.length) redimensionar(2 * elementos.length);
+		elementos[(primero + size) % elementos.length] = t;
+		size += 1;
+	}
+
+	/**
+	 * quita un elemento de la cola
+	 */
+	public T dequeue() {
+		if (size == 0) return null;
+
+		T dato = elementos[primero];
+		elementos[primero] = null; // No mantener referencias a elementos que ya salieron
+		primero = (primero + 1) % elementos.length;
+		size--;
+
+		// Reducir la capacidad a la mitad cuando la cola queda a un cuarto de su capacidad
+		if (size <= elementos.length/4 && elementos.length/2 >= CAPACIDAD_MINIMA) redimensionar(elementos.length/2);
+		return dato;
+	}
+
+	/**
+	 * Copiar los elementos, en orden desde la posicion 0, a un nuevo arreglo con la capacidad dada
+	 * @param capacidad nueva capacidad, al menos size
+	 */
+	private void redimensionar(int capacidad) {
+		T[] copia = (T[]) new Object[capacidad];
+		// Copiar en maximo 2 tramos: desde primero hasta el final del arreglo, y desde el inicio del arreglo
+		int primerTramo = Math.min(size, elementos.length - primero);
+		System.arraycopy(elementos, primero, copia, 0, primerTramo);
+		System.arraycopy(elementos, 0, copia, primerTramo, size - primerTramo);
+		elementos = copia;
+		primero = 0;
+	}
+}
@@ -0,0 +1,133 @@
+package model.data_structures;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementacion de IQueue sin candados (cola de Michael y Scott) que puede ser usada por varios hilos a la vez:
+ * e.g. varios hilos que leen archivos CSV agregan infracciones y un hilo las saca para procesarlas.
+ * Los nodos se enlazan con compare-and-set, por lo que ningun hilo bloquea a los demas.
+ */
+public class QueueConcurrente<T> implements IQueue<T> {
+	/*
+	 * Variables
+	 */
+	// Nodo centinela: su siguiente es el primer elemento de la cola
+	private final AtomicReference<NodoConcurrente<T>> first;
+	// Ultimo nodo de la cola, o uno muy cercano al final mientras otro hilo termina de agregar
+	private final AtomicReference<NodoConcurrente<T>> ultimo;
+	// Tamano de la cola
+	private final AtomicInteger size;
+
+	/*
+	 * Constructor
+	 */
+	public QueueConcurrente() {
+		NodoConcurrente<T> centinela = new NodoConcurrente<T>(null);
+		first = new AtomicReference<NodoConcurrente<T>>(centinela);
+		ultimo = new AtomicReference<NodoConcurrente<T>>(centinela);
+		size = new AtomicInteger();
+	}
+
+	/**
+	 * Retorna un iterador desde el primer elemento. No lanza excepciones si otros hilos modifican la cola,
+	 * pero puede o no reflejar esas modificaciones.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+
+			private NodoConcurrente<T> current = first.get().siguiente.get();
+
+			@Override
+			public boolean hasNext() {
+				return current != null;
+			}
+
+			@Override
+			public T next() {
+				T dato = current.dato;
+				current = current.siguiente.get();
+				return dato;
+			}
+		};
+	}
+
+	/**
+	 * @return true si esta vacia, false de lo contrario
+	 */
+	public boolean isEmpty() {
+		return first.get().siguiente.get() == null;
+	}
+
+	/**
+	 * @return el tamano de la cola. Con otros hilos modificando la cola, es un valor aproximado.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * agrega un elemento a la cola
+	 */
+	public void enqueue(T t) {
+		NodoConcurrente<T> nuevo = new NodoConcurrente<T>(t);
+		// Se incrementa antes de agregar para que un dequeue() concurrente nunca deje el tamano negativo
+		size.incrementAndGet();
+		while (true) {
+			NodoConcurrente<T> fin = ultimo.get();
+			NodoConcurrente<T> siguiente = fin.siguiente.get();
+			if (fin != ultimo.get()) continue;
+			if (siguiente == null) {
+				// Intentar enlazar el nuevo nodo al final, y luego mover ultimo hacia el
+				if (fin.siguiente.compareAndSet(null, nuevo)) {
+					ultimo.compareAndSet(fin, nuevo);
+					return;
+				}
+			} else {
+				// Otro hilo enlazo un nodo pero no ha movido ultimo: ayudarle
+				ultimo.compareAndSet(fin, siguiente);
+			}
+		}
+	}
+
+	/**
+	 * quita un elemento de la cola
+	 * @return el elemento agregado menos recientemente. null si la cola esta vacia
+	 */
+	public T dequeue() {
+		while (true) {
+			NodoConcurrente<T> centinela = first.get();
+			NodoConcurrente<T> fin = ultimo.get();
+			NodoConcurrente<T> primeroEnFila = centinela.siguiente.get();
+			if (centinela != first.get()) continue;
+			if (centinela == fin) {
+				if (primeroEnFila == null) return null;
+				// Otro hilo enlazo un nodo pero no ha movido ultimo: ayudarle
+				ultimo.compareAndSet(fin, primeroEnFila);
+			} else {
+				T dato = primeroEnFila.dato;
+				// El primero en fila pasa a ser el nuevo centinela
+				if (first.compareAndSet(centinela, primeroEnFila)) {
+					primeroEnFila.dato = null; // No mantener referencia al elemento que salio
+					size.decrementAndGet();
+					return dato;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Nodo de la cola. Su siguiente se cambia con compare-and-set.
+	 */
+	private static class NodoConcurrente<T> {
+		private T dato;
+		private final AtomicReference<NodoConcurrente<T>> siguiente;
+
+		private NodoConcurrente(T dato) {
+			this.dato = dato;
+			siguiente = new AtomicReference<NodoConcurrente<T>>();
+		}
+	}
+}
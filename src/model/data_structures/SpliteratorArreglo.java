@@ -0,0 +1,76 @@
+package model.data_structures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator sobre un rango de posiciones de un IArregloDinamico. Se parte por la mitad del rango,
+ * por lo que las partes tienen tamanos exactos (SIZED y SUBSIZED) y parejos.
+ * No detecta modificaciones del arreglo mientras se recorre.
+ */
+class SpliteratorArreglo<T> implements Spliterator<T> {
+	/*
+	 * Atributos
+	 */
+	private final IArregloDinamico<T> datos;
+	/**
+	 * Siguiente posicion a recorrer
+	 */
+	private int origen;
+	/**
+	 * Posicion siguiente a la ultima a recorrer
+	 */
+	private final int fin;
+	private final int caracteristicas;
+
+	/*
+	 * Constructor
+	 */
+	/**
+	 * @param datos arreglo a recorrer
+	 * @param origen primera posicion a recorrer
+	 * @param fin posicion siguiente a la ultima a recorrer
+	 * @param caracteristicas caracteristicas adicionales a SIZED y SUBSIZED (e.g. ORDERED)
+	 */
+	SpliteratorArreglo(IArregloDinamico<T> datos, int origen, int fin, int caracteristicas) {
+		this.datos = datos;
+		this.origen = origen;
+		this.fin = fin;
+		this.caracteristicas = caracteristicas | Spliterator.SIZED | Spliterator.SUBSIZED;
+	}
+
+	/*
+	 * Metodos
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super T> accion) {
+		if (origen >= fin) return false;
+		accion.accept(datos.darObjeto(origen++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> accion) {
+		for (int i = origen; i < fin; i++) accion.accept(datos.darObjeto(i));
+		origen = fin;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		int medio = (origen + fin) >>> 1;
+		if (medio <= origen) return null;
+		SpliteratorArreglo<T> prefijo = new SpliteratorArreglo<T>(datos, origen, medio, caracteristicas);
+		origen = medio;
+		return prefijo;
+	}
+
+	@Override
+	public long estimateSize() {
+		return fin - origen;
+	}
+
+	@Override
+	public int characteristics() {
+		return caracteristicas;
+	}
+}
@@ -0,0 +1,134 @@
+package model.data_structures;
+
+import java.util.Iterator;
+
+/**
+ * Guarda los K elementos mas grandes de todos los que se le han dado, usando un heap de minimos de tamano K.
+ * Los elementos se pueden agregar uno a uno (e.g. mientras se recorre un archivo), con O(K) memoria
+ * y O(log K) por elemento.
+ * @param <T> tipo de los elementos
+ */
+@SuppressWarnings("unchecked")
+public class TopK<T extends Comparable<T>> {
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Numero maximo de elementos a guardar
+	 */
+	private final int k;
+	/**
+	 * Heap de minimos con los elementos guardados, desde la posicion 1. La raiz es el menor de los K mayores.
+	 */
+	private T[] heap;
+	/**
+	 * Numero de elementos guardados
+	 */
+	private int n;
+
+	/*
+	 * Constructor
+	 */
+	/**
+	 * Construir un TopK vacio
+	 * @param k numero de elementos a guardar, k > 0
+	 */
+	public TopK(int k) {
+		if (k <= 0) throw new IllegalArgumentException("K debe ser positivo");
+		this.k = k;
+		heap = (T[]) new Comparable<?>[k + 1];
+		n = 0;
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * Retorna el numero de elementos guardados (a lo sumo K)
+	 */
+	public int darNumElementos() {
+		return n;
+	}
+
+	/**
+	 * Considera un nuevo elemento. Se guarda solo si esta entre los K mayores vistos hasta ahora.
+	 * En caso de empate con el menor guardado, se conserva el que llego primero.
+	 * @param t el nuevo elemento
+	 */
+	public void agregar(T t) {
+		if (n < k) {
+			heap[++n] = t;
+			swim(heap, n);
+		}
+		else if (t.compareTo(heap[1]) > 0) {
+			heap[1] = t;
+			sink(heap, 1, n);
+		}
+	}
+
+	/**
+	 * Considera todos los elementos restantes del iterador
+	 * @param iterador fuente de elementos
+	 */
+	public void agregarTodos(Iterator<T> iterador) {
+		while (iterador.hasNext()) agregar(iterador.next());
+	}
+
+	/**
+	 * Retorna el menor de los K elementos guardados, es decir, el minimo que debe superar un elemento para
+	 * entrar al TopK una vez lleno
+	 * @return el menor elemento guardado. null si no hay elementos
+	 */
+	public T min() {
+		return heap[1];
+	}
+
+	/**
+	 * Retorna los elementos guardados de mayor a menor. No modifica el TopK.
+	 * @return arreglo con a lo sumo K elementos en orden descendente
+	 */
+	public IArregloDinamico<T> darTopK() {
+		// Ordenar una copia del heap sacando el minimo y dejandolo al final (heapsort descendente)
+		T[] copia = (T[]) new Comparable<?>[n + 1];
+		System.arraycopy(heap, 1, copia, 1, n);
+		for (int m = n; m > 1; m--) {
+			exch(copia, 1, m);
+			sink(copia, 1, m - 1);
+		}
+
+		IArregloDinamico<T> respuesta = new ArregloDinamico<T>(Math.max(n, 1));
+		for (int i = 1; i <= n; i++) respuesta.agregar(copia[i]);
+		return respuesta;
+	}
+
+	/*
+	 * Operaciones de heap de minimos sobre a[1..N]. Reciben el arreglo para poder usarse tanto sobre el
+	 * heap como sobre la copia que ordena darTopK().
+	 */
+	private void swim(T[] a, int i) {
+		while (i > 1 && greater(a, i/2, i)) {
+			exch(a, i, i/2);
+			i = i/2;
+		}
+	}
+
+	private void sink(T[] a, int i, int N) {
+		while (2*i <= N) {
+			int j = 2*i;
+			if (j < N && greater(a, j, j+1)) j++;
+			if (!greater(a, i, j)) break;
+			exch(a, i, j);
+			i = j;
+		}
+	}
+
+	private boolean greater(T[] a, int i, int j) {
+		return a[i].compareTo(a[j]) > 0;
+	}
+
+	private void exch(T[] a, int i, int j) {
+		T auxiliar = a[i];
+		a[i] = a[j];
+		a[j] = auxiliar;
+	}
+}
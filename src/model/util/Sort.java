@@ -1,12 +1,49 @@
 package model.util;
 import java.lang.Math;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
 
 import model.data_structures.*;
 
+@SuppressWarnings("unchecked")
 public class Sort {
 	
+	/*
+	 * Constantes
+	 */
+	/**
+	 * Tamano por debajo del cual los subarreglos se ordenan con InsertionSort
+	 */
+	private static final int CORTE_INSERCION = 15;
+	/**
+	 * Tamano por debajo del cual MergeSort paralelo ordena en un solo hilo
+	 */
+	private static final int CORTE_PARALELO = 1 << 13;
+	/**
+	 * Bits de la llave que RadixSort ordena en cada pasada (4 pasadas de 256 cubetas para un int)
+	 */
+	private static final int BITS_RADIX = 8;
+	/**
+	 * Numero de veces seguidas que una corrida debe ganar en una mezcla de TimSort para pasar sus datos en bloque
+	 */
+	private static final int MIN_GALOPE = 7;
+	/**
+	 * Semilla inicial del generador usado para desordenar, para que las ejecuciones sean reproducibles
+	 */
+	private static final long SEMILLA = 20190301L;
+	
+	/*
+	 * Atributos
+	 */
+	/**
+	 * Generador usado por shuffle(). Se crea una sola vez: la misma secuencia de llamados da los mismos resultados.
+	 */
+	private static Random random = new Random(SEMILLA);
+	
 	/*
 	 * **********************************************************************************************
 	 * *********************************** SHELL SORT ***********************************************
@@ -61,60 +98,463 @@ public class Sort {
 	 * **********************************************************************************************
 	 */
 	/**
-	 * Ordenar datos aplicando el algoritmo MergeSort
-	 * @param movingViolationsQueue - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 * Ordenar datos aplicando el algoritmo MergeSort. Los datos se copian a un arreglo y se usa un solo
+	 * arreglo auxiliar para todas las mezclas. Es estable: los datos iguales segun el comparador conservan
+	 * su orden relativo, por lo que se puede ordenar por un criterio y luego por otro.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
 	 */
 	public static <T> void ordenarMergeSort(IArregloDinamico<T> datos, Comparator<T> comparator ) {
+		T[] arreglo = aArreglo(datos);
+		T[] auxiliar = (T[]) new Object[arreglo.length];
+		ordenarMergeSort(arreglo, auxiliar, 0, arreglo.length - 1, comparator);
+		deArreglo(arreglo, datos);
+	}
+	/*
+	 * **********************************************************************************************
+	 */
+	
+	
+	/*
+	 * **********************************************************************************************
+	 * ****************************** MERGE SORT PARALELO *******************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Ordenar datos aplicando el algoritmo MergeSort en varios hilos (ForkJoinPool). Los datos se copian a un
+	 * arreglo y se usa un solo arreglo auxiliar para todas las mezclas. Los subarreglos de menos de
+	 * CORTE_PARALELO elementos se ordenan en un solo hilo. Es estable.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static <T> void ordenarMergeSortParalelo(IArregloDinamico<T> datos, Comparator<T> c) {
+		T[] arreglo = aArreglo(datos);
+		T[] auxiliar = (T[]) new Object[arreglo.length];
+		ForkJoinPool.commonPool().invoke(new MergeSortParalelo<T>(arreglo, auxiliar, 0, arreglo.length - 1, c));
+		deArreglo(arreglo, datos);
+	}
+	
+	/**
+	 * Tarea que ordena arreglo[min..max]: ordena cada mitad en paralelo y luego las mezcla
+	 */
+	private static class MergeSortParalelo<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final T[] arreglo;
+		private final T[] auxiliar;
+		private final int min;
+		private final int max;
+		private final Comparator<T> c;
+		
+		private MergeSortParalelo(T[] arreglo, T[] auxiliar, int min, int max, Comparator<T> c) {
+			this.arreglo = arreglo;
+			this.auxiliar = auxiliar;
+			this.min = min;
+			this.max = max;
+			this.c = c;
+		}
 		
-		//Bottom - Up
-		int N = datos.darTamano();
-		//Se crea un arreglo auxiliar
-		Queue<T> auxiliar = new Queue<T>();
-		Queue<T> auxiliar2 = new Queue<T>();
-		for (int i = 1; i < N; i = i+i) {
-			for (int min = 0; min < N-i; min+=i+i) {
-				merge(datos, auxiliar,auxiliar2, min, min+i-1, Math.min(min+i+i-1, N-1), comparator);
+		@Override
+		protected void compute() {
+			if (max - min < CORTE_PARALELO) {
+				ordenarMergeSort(arreglo, auxiliar, min, max, c);
+				return;
 			}
+			int med = (min + max) >>> 1;
+			invokeAll(new MergeSortParalelo<T>(arreglo, auxiliar, min, med, c),
+					new MergeSortParalelo<T>(arreglo, auxiliar, med + 1, max, c));
+			merge(arreglo, auxiliar, min, med, max, c);
 		}
 	}
-
 	
-	private static <T> void merge(IArregloDinamico<T> datos, Queue<T> auxiliar, Queue<T> auxiliar2, int min, int med, int max, Comparator<T> comparator){
-		//Se copia el arreglo
-		for( int k = min; k<=med; k++){
-			auxiliar.enqueue(datos.darObjeto(datos.darTamano()-1));
+	/**
+	 * Ordenar arreglo[min..max] con MergeSort de arriba hacia abajo, usando InsertionSort en los subarreglos
+	 * pequenos
+	 */
+	private static <T> void ordenarMergeSort(T[] arreglo, T[] auxiliar, int min, int max, Comparator<T> c) {
+		if (max - min < CORTE_INSERCION) {
+			ordenarInsercion(arreglo, min, max, c);
+			return;
+		}
+		int med = (min + max) >>> 1;
+		ordenarMergeSort(arreglo, auxiliar, min, med, c);
+		ordenarMergeSort(arreglo, auxiliar, med + 1, max, c);
+		merge(arreglo, auxiliar, min, med, max, c);
+	}
+	
+	/**
+	 * Mezclar los subarreglos ordenados arreglo[min..med] y arreglo[med+1..max] usando auxiliar[min..max].
+	 * En caso de empate toma primero el elemento de la izquierda (estable). Si las 2 mitades ya estan en
+	 * orden no se copia nada.
+	 */
+	private static <T> void merge(T[] arreglo, T[] auxiliar, int min, int med, int max, Comparator<T> c) {
+		if (!less(arreglo[med + 1], arreglo[med], c)) return;
+		System.arraycopy(arreglo, min, auxiliar, min, max - min + 1);
+		int i = min;
+		int j = med + 1;
+		for (int k = min; k <= max; k++) {
+			if 		(i > med)							arreglo[k] = auxiliar[j++];
+			else if (j > max)							arreglo[k] = auxiliar[i++];
+			else if (less(auxiliar[j], auxiliar[i], c))	arreglo[k] = auxiliar[j++];
+			else										arreglo[k] = auxiliar[i++];
+		}
+	}
+	
+	/**
+	 * Ordenar arreglo[min..max] con InsertionSort, desplazando en vez de intercambiar. Es estable.
+	 */
+	private static <T> void ordenarInsercion(T[] arreglo, int min, int max, Comparator<T> c) {
+		for (int i = min + 1; i <= max; i++) {
+			T dato = arreglo[i];
+			int j = i;
+			while (j > min && less(dato, arreglo[j - 1], c)) {
+				arreglo[j] = arreglo[j - 1];
+				j--;
+			}
+			arreglo[j] = dato;
+		}
+	}
+	/*
+	 * **********************************************************************************************
+	 */
+	
+	
+	/*
+	 * **********************************************************************************************
+	 * *********************************** TIM SORT *************************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Ordenar datos con un MergeSort natural adaptativo (estilo TimSort): se buscan las corridas ya
+	 * ascendentes o descendentes, y se mezclan pasando en bloque (galopando) los tramos que no se intercalan.
+	 * Datos casi ordenados se ordenan en tiempo cercano a lineal; en el peor caso toma O(n log n). Es estable.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static <T> void ordenarTimSort(IArregloDinamico<T> datos, Comparator<T> c) {
+		T[] arreglo = aArreglo(datos);
+		if (arreglo.length < 2) return;
+		new TimSort<T>(arreglo, c).ordenar();
+		deArreglo(arreglo, datos);
+	}
+	
+	/**
+	 * Largo minimo de las corridas para n datos: un valor entre 32 y 64 tal que n / minCorrida sea una
+	 * potencia de 2 o un poco menos, para que las mezclas queden balanceadas
+	 */
+	private static int minCorrida(int n) {
+		int resto = 0;
+		while (n >= 64) {
+			resto |= n & 1;
+			n >>= 1;
 		}
-		for( int k = med+1; k<=max; k++){
-			auxiliar2.enqueue(datos.darObjeto(datos.darTamano()-1));
+		return n + resto;
+	}
+	
+	/**
+	 * Estado de TimSort sobre un arreglo de objetos
+	 */
+	private static class TimSort<T> {
+		/**
+		 * Tamano maximo de la pila de corridas: con los largos creciendo como Fibonacci alcanza para 2^31 datos
+		 */
+		private static final int MAX_CORRIDAS = 49;
+		/**
+		 * Datos a ordenar
+		 */
+		private final T[] a;
+		/**
+		 * Copia de la corrida izquierda durante cada mezcla
+		 */
+		private final T[] auxiliar;
+		private final Comparator<T> c;
+		/**
+		 * Pila de corridas pendientes por mezclar: posicion inicial y largo de cada una
+		 */
+		private final int[] base;
+		private final int[] largo;
+		private int nCorridas;
+		
+		private TimSort(T[] a, Comparator<T> c) {
+			this.a = a;
+			this.c = c;
+			auxiliar = (T[]) new Object[a.length];
+			base = new int[MAX_CORRIDAS];
+			largo = new int[MAX_CORRIDAS];
+			nCorridas = 0;
+		}
+		
+		/**
+		 * Ordenar a[0..n-1]: tomar corridas de izquierda a derecha (extendiendo con InsertionSort las que
+		 * tienen menos de minCorrida datos) y mezclarlas manteniendo los largos de la pila balanceados
+		 */
+		private void ordenar() {
+			int n = a.length;
+			int minCorrida = minCorrida(n);
+			int inicio = 0;
+			while (inicio < n) {
+				int len = contarCorrida(inicio);
+				if (len < minCorrida) {
+					int forzado = Math.min(minCorrida, n - inicio);
+					insercion(inicio, inicio + forzado - 1);
+					len = forzado;
+				}
+				base[nCorridas] = inicio;
+				largo[nCorridas] = len;
+				nCorridas++;
+				colapsar();
+				inicio += len;
+			}
+			while (nCorridas > 1) mezclarEn(nCorridas - 2);
 		}
 		
-		T i = auxiliar.dequeue();
-		T j = auxiliar2.dequeue();
+		/**
+		 * Retornar el largo de la corrida que empieza en inicio. Si es estrictamente descendente se invierte
+		 * (estrictamente, para no cambiar el orden de datos iguales).
+		 */
+		private int contarCorrida(int inicio) {
+			int fin = inicio + 1;
+			if (fin == a.length) return 1;
+			if (menor(a[fin++], a[inicio])) {
+				while (fin < a.length && menor(a[fin], a[fin - 1])) fin++;
+				for (int i = inicio, j = fin - 1; i < j; i++, j--) {
+					T temp = a[i];
+					a[i] = a[j];
+					a[j] = temp;
+				}
+			} else {
+				while (fin < a.length && !menor(a[fin], a[fin - 1])) fin++;
+			}
+			return fin - inicio;
+		}
 		
-		for(int k = min; k<= max;k++){
+		/**
+		 * Mezclar las corridas de la pila hasta que, para las 3 de arriba X, Y, Z (Z la ultima),
+		 * se cumpla X > Y + Z y Y > Z. Asi los largos crecen al menos como Fibonacci hacia el fondo.
+		 */
+		private void colapsar() {
+			while (nCorridas > 1) {
+				int k = nCorridas - 2;
+				if ((k > 0 && largo[k - 1] <= largo[k] + largo[k + 1]) || (k > 1 && largo[k - 2] <= largo[k - 1] + largo[k])) {
+					if (largo[k - 1] < largo[k + 1]) k--;
+				} else if (largo[k] > largo[k + 1]) {
+					break;
+				}
+				mezclarEn(k);
+			}
+		}
+		
+		/**
+		 * Mezclar las corridas k y k+1 de la pila, galopando cuando una de las 2 gana MIN_GALOPE veces seguidas
+		 */
+		private void mezclarEn(int k) {
+			int base1 = base[k];
+			int len1 = largo[k];
+			int base2 = base[k + 1];
+			int len2 = largo[k + 1];
+			largo[k] = len1 + len2;
+			if (k == nCorridas - 3) {
+				base[k + 1] = base[k + 2];
+				largo[k + 1] = largo[k + 2];
+			}
+			nCorridas--;
 			
-			if (i == null) {
-				datos.cambiarEnPos(k, j);
-				j = auxiliar2.dequeue();
+			// Los datos de la 1a corrida menores o iguales al primero de la 2a ya estan en su lugar
+			int enLugar = galopeDerecha(a[base2], a, base1, len1);
+			base1 += enLugar;
+			len1 -= enLugar;
+			if (len1 == 0) return;
+			// Los datos de la 2a corrida mayores o iguales al ultimo de la 1a tambien
+			len2 = galopeIzquierda(a[base1 + len1 - 1], a, base2, len2);
+			
+			System.arraycopy(a, base1, auxiliar, base1, len1);
+			int i = base1;
+			int finI = base1 + len1;
+			int j = base2;
+			int finJ = base2 + len2;
+			int destino = base1;
+			int ganaI = 0;
+			int ganaJ = 0;
+			while (i < finI && j < finJ) {
+				if (menor(a[j], auxiliar[i])) {
+					a[destino++] = a[j++];
+					ganaI = 0;
+					if (++ganaJ >= MIN_GALOPE) {
+						// Pasar en bloque los datos de la 2a corrida menores que auxiliar[i]
+						int cuantos = galopeIzquierda(auxiliar[i], a, j, finJ - j);
+						System.arraycopy(a, j, a, destino, cuantos);
+						destino += cuantos;
+						j += cuantos;
+						ganaJ = 0;
+					}
+				} else {
+					a[destino++] = auxiliar[i++];
+					ganaJ = 0;
+					if (++ganaI >= MIN_GALOPE) {
+						// Pasar en bloque los datos de la 1a corrida menores o iguales que a[j]
+						int cuantos = galopeDerecha(a[j], auxiliar, i, finI - i);
+						System.arraycopy(auxiliar, i, a, destino, cuantos);
+						destino += cuantos;
+						i += cuantos;
+						ganaI = 0;
+					}
+				}
 			}
-			else if(j == null){
-				datos.cambiarEnPos(k, i);
-				i = auxiliar.dequeue();
+			// Lo que queda de la 2a corrida ya esta en su lugar
+			System.arraycopy(auxiliar, i, a, destino, finI - i);
+		}
+		
+		/**
+		 * Retornar cuantos datos de arreglo[inicio..inicio+len-1] (ordenado) son menores que llave.
+		 * Busca exponencialmente desde el inicio y luego binariamente, por lo que toma O(log k) si la
+		 * respuesta es k.
+		 */
+		private int galopeIzquierda(T llave, T[] arreglo, int inicio, int len) {
+			int anterior = 0;
+			int salto = 1;
+			while (salto < len && menor(arreglo[inicio + salto - 1], llave)) {
+				anterior = salto;
+				salto = 2 * salto + 1;
 			}
-			else if(less(i,j, comparator)){
-				datos.cambiarEnPos(k, i);
-				i = auxiliar.dequeue();
+			int min = anterior;
+			int max = Math.min(salto, len);
+			while (min < max) {
+				int med = (min + max) >>> 1;
+				if (menor(arreglo[inicio + med], llave)) min = med + 1;
+				else max = med;
 			}
-			else{
-				datos.cambiarEnPos(k, j);
-				j = auxiliar2.dequeue();
+			return min;
+		}
+		
+		/**
+		 * Retornar cuantos datos de arreglo[inicio..inicio+len-1] (ordenado) son menores o iguales que llave
+		 */
+		private int galopeDerecha(T llave, T[] arreglo, int inicio, int len) {
+			int anterior = 0;
+			int salto = 1;
+			while (salto < len && !menor(llave, arreglo[inicio + salto - 1])) {
+				anterior = salto;
+				salto = 2 * salto + 1;
 			}
+			int min = anterior;
+			int max = Math.min(salto, len);
+			while (min < max) {
+				int med = (min + max) >>> 1;
+				if (!menor(llave, arreglo[inicio + med])) min = med + 1;
+				else max = med;
+			}
+			return min;
+		}
+		
+		/**
+		 * Ordenar a[min..max] con InsertionSort. Es estable.
+		 */
+		private void insercion(int min, int max) {
+			for (int i = min + 1; i <= max; i++) {
+				T dato = a[i];
+				int j = i;
+				while (j > min && menor(dato, a[j - 1])) {
+					a[j] = a[j - 1];
+					j--;
+				}
+				a[j] = dato;
+			}
+		}
+		
+		private boolean menor(T v, T w) {
+			return c.compare(v, w) < 0;
 		}
 	}
 	/*
 	 * **********************************************************************************************
 	 */
 	
+	/*
+	 * **********************************************************************************************
+	 * *********************************** RADIX SORT ***********************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Ordenar datos ascendentemente segun una llave entera aplicando RadixSort LSD, en tiempo lineal.
+	 * Se calcula la llave de cada dato una sola vez y se ordenan las posiciones de los datos por su llave;
+	 * luego los datos se mueven a su lugar sobre el mismo arreglo, siguiendo los ciclos de la permutacion.
+	 * No se copian los datos: la memoria adicional es de 3 int[n] (12 bytes por dato).
+	 * Es estable: los datos con la misma llave conservan su orden relativo.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 * @param llave - funcion que da la llave de cada dato (e.g. VOMovingViolation::getAddressID)
+	 */
+	public static <T> void ordenarRadixSort(IArregloDinamico<T> datos, ToIntFunction<T> llave) {
+		int n = datos.darTamano();
+		if (n < 2) return;
+		int[] llaves = new int[n];
+		int i = 0;
+		for (T dato : datos) llaves[i++] = llave.applyAsInt(dato);
+		int[] orden = ordenRadix(llaves);
+		llaves = null;
+		
+		// orden[j] es la posicion actual del dato que debe quedar en j. Cada ciclo se recorre una vez y sus
+		// posiciones se marcan con ~orden[j] (negativo)
+		for (int inicio = 0; inicio < n; inicio++) {
+			if (orden[inicio] < 0) continue;
+			T primero = datos.darObjeto(inicio);
+			int j = inicio;
+			while (orden[j] != inicio) {
+				int siguiente = orden[j];
+				datos.cambiarEnPos(j, datos.darObjeto(siguiente));
+				orden[j] = ~siguiente;
+				j = siguiente;
+			}
+			datos.cambiarEnPos(j, primero);
+			orden[j] = ~inicio;
+		}
+	}
+	
+	/**
+	 * Retornar las posiciones de las llaves ordenadas ascendentemente segun su llave (RadixSort LSD), sin
+	 * modificar las llaves. Sirve para ordenar varios arreglos paralelos (e.g. columnas) por una de ellos.
+	 * Es estable: las posiciones con la misma llave quedan en orden ascendente. Usa tres int[n]: una copia de
+	 * las llaves, el resultado y un auxiliar; al retornar solo queda el resultado.
+	 * @param llaves - llave de cada posicion
+	 * @return arreglo en el que la posicion i tiene la posicion del dato que va en el lugar i del orden
+	 */
+	public static int[] darOrdenRadix(ArregloDinamicoInt llaves) {
+		int[] arreglo = new int[llaves.darTamano()];
+		for (int i = 0; i < arreglo.length; i++) arreglo[i] = llaves.darObjeto(i);
+		return ordenRadix(arreglo);
+	}
+	
+	/**
+	 * Retornar las posiciones 0..n-1 ordenadas de forma estable segun llaves[posicion] (RadixSort LSD).
+	 * Se hacen a lo sumo 4 pasadas de conteo (una por byte de la llave), saltando las pasadas en que todas
+	 * las llaves tienen el mismo byte. Usa un int[n] auxiliar ademas del resultado.
+	 */
+	private static int[] ordenRadix(int[] llaves) {
+		int n = llaves.length;
+		if (n == 0) return new int[0];
+		int[] orden = new int[n];
+		int[] auxiliar = new int[n];
+		for (int i = 0; i < n; i++) orden[i] = i;
+		
+		int cubetas = 1 << BITS_RADIX;
+		int mascara = cubetas - 1;
+		int[] conteo = new int[cubetas + 1];
+		for (int corrimiento = 0; corrimiento < Integer.SIZE; corrimiento += BITS_RADIX) {
+			// Invertir el bit de signo para que las llaves negativas queden antes que las positivas
+			Arrays.fill(conteo, 0);
+			for (int i = 0; i < n; i++) conteo[(((llaves[i] ^ Integer.MIN_VALUE) >>> corrimiento) & mascara) + 1]++;
+			// Si todas las llaves caen en la misma cubeta, esta pasada no cambia el orden
+			if (conteo[(((llaves[0] ^ Integer.MIN_VALUE) >>> corrimiento) & mascara) + 1] == n) continue;
+			
+			for (int r = 0; r < cubetas; r++) conteo[r + 1] += conteo[r];
+			for (int i = 0; i < n; i++) {
+				int posicion = orden[i];
+				auxiliar[conteo[((llaves[posicion] ^ Integer.MIN_VALUE) >>> corrimiento) & mascara]++] = posicion;
+			}
+			int[] temp = orden;
+			orden = auxiliar;
+			auxiliar = temp;
+		}
+		return orden;
+	}
+	/*
+	 * **********************************************************************************************
+	 */
 	
 	/*
 	 * **********************************************************************************************
@@ -122,49 +562,469 @@ public class Sort {
 	 * **********************************************************************************************
 	 */
 	/**
-	 * Ordenar datos aplicando el algoritmo QuickSort
+	 * Ordenar datos aplicando el algoritmo QuickSort, sobre el mismo arreglo (sin copiar los datos)
 	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
 	 */
 	public static <T> void ordenarQuickSort(IArregloDinamico<T> datos, Comparator<T> c) {
 		// Desordenar: basado shuffle() de la libreria StdRandom del libro
 		shuffle(datos);
-		ordenarQuickSort(datos, 0, datos.darTamano()-1, c);
+		ordenarQuickSort(datos, 0, datos.darTamano() - 1, c);
 	}
 	
 	private static <T> void ordenarQuickSort(IArregloDinamico<T> datos, int min, int max, Comparator<T> c) {
-		if (min >= max) return;
-		
-		T ref = datos.darObjeto(min);
-		
-		// Partir array en dato de referencia, datos menores o iguales, y datos mayores
-		int indLastLeq = min;
-		int indFirstGr = max + 1;
-		while (true) {
-			// Encontrar la posicion actual donde termina la particion de numeros menores o iguales
-			while (indLastLeq < max && !less(ref, datos.darObjeto(indLastLeq + 1), c)) indLastLeq += 1;
-			if (indLastLeq + 1 == indFirstGr) break;
+		while (max - min >= CORTE_INSERCION) {
+			// Referencia: mediana de los datos en min, la mitad y max, que se deja en la posicion min
+			exchange(datos, min, mediana(datos, min, (min + max) >>> 1, max, c));
+			T ref = datos.darObjeto(min);
 			
-			// Encontrar la posicion actual donde empieza la particion de numeros mayores
-			while (indFirstGr > (min+1) && less(ref, datos.darObjeto(indFirstGr - 1), c)) indFirstGr -= 1;
-			if (indLastLeq + 1 == indFirstGr) break;
+			// Particion de 3 vias (Dijkstra): datos[min..lt-1] < ref, datos[lt..gt] igual a ref, datos[gt+1..max] > ref
+			// Los datos iguales a la referencia quedan en su posicion final y no se vuelven a revisar
+			int lt = min;
+			int i = min + 1;
+			int gt = max;
+			while (i <= gt) {
+				int cmp = c.compare(datos.darObjeto(i), ref);
+				if (cmp < 0) exchange(datos, lt++, i++);
+				else if (cmp > 0) exchange(datos, i, gt--);
+				else i++;
+			}
 			
-			// En caso de no cruzarse las dos partes del array, hacer el intercambio de los
-			// elementos que interrumpen las 2 partes del array
-			exchange(datos, indLastLeq + 1, indFirstGr - 1);
-			indLastLeq += 1;
-			indFirstGr -= 1;
-		}
-		// Dejar elemento de referencia en su posicion final
-		exchange(datos, min, indLastLeq);
-		
-		// Ordenar las 2 partes restantes
-		ordenarQuickSort(datos, min, indLastLeq - 1, c);
-		ordenarQuickSort(datos, indFirstGr, max, c);
+			// Ordenar recursivamente la parte mas pequena y seguir con la otra en este ciclo,
+			// asi la recursion tiene a lo sumo log2(n) niveles
+			if (lt - min < max - gt) {
+				ordenarQuickSort(datos, min, lt - 1, c);
+				min = gt + 1;
+			} else {
+				ordenarQuickSort(datos, gt + 1, max, c);
+				max = lt - 1;
+			}
+		}
+		ordenarInsercion(datos, min, max, c);
+	}
+	
+	/**
+	 * Retorna la posicion (i, j o k) del dato mediano entre datos[i], datos[j] y datos[k]
+	 */
+	private static <T> int mediana(IArregloDinamico<T> datos, int i, int j, int k, Comparator<T> c) {
+		T a = datos.darObjeto(i);
+		T b = datos.darObjeto(j);
+		T d = datos.darObjeto(k);
+		return less(a, b, c) ? (less(b, d, c) ? j : less(a, d, c) ? k : i) : (less(d, b, c) ? j : less(d, a, c) ? k : i);
 	}
+	
+	/**
+	 * Ordenar datos[min..max] con InsertionSort, desplazando en vez de intercambiar. Es estable.
+	 */
+	private static <T> void ordenarInsercion(IArregloDinamico<T> datos, int min, int max, Comparator<T> c) {
+		for (int i = min + 1; i <= max; i++) {
+			T dato = datos.darObjeto(i);
+			int j = i;
+			while (j > min && less(dato, datos.darObjeto(j - 1), c)) {
+				datos.cambiarEnPos(j, datos.darObjeto(j - 1));
+				j--;
+			}
+			datos.cambiarEnPos(j, dato);
+		}
+	}
+	
 	/*
 	 * **********************************************************************************************
 	 */
 	
+	/*
+	 * **********************************************************************************************
+	 * *********************************** SELECCION ************************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Retornar el dato que quedaria en la posicion k si se ordenaran los datos (QuickSelect), en tiempo O(n)
+	 * esperado. Los datos quedan reordenados de forma que los de las posiciones 0..k-1 son menores o iguales
+	 * al resultado y los de k+1..n-1 mayores o iguales. Para los mayores usar c.reversed().
+	 * @param datos - conjunto de datos
+	 * @param k - posicion buscada, 0 <= k < n (e.g. n/2 para la mediana)
+	 */
+	public static <T> T seleccionarK(IArregloDinamico<T> datos, int k, Comparator<T> c) {
+		if (k < 0 || k >= datos.darTamano()) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+		shuffle(datos);
+		seleccionarK(datos, 0, datos.darTamano() - 1, k, c);
+		return datos.darObjeto(k);
+	}
+	
+	/**
+	 * Dejar ordenados en las posiciones 0..k-1 los k menores datos, sin ordenar el resto: se separan con
+	 * QuickSelect y solo se ordenan esos k, en tiempo O(n + k log k) esperado. Si k >= n se ordenan todos.
+	 * Para los k mayores (de mayor a menor) usar c.reversed().
+	 * @param datos - conjunto de datos (inicio) y conjunto con los k menores ordenados al comienzo (final)
+	 * @param k - numero de datos a ordenar, k >= 0
+	 */
+	public static <T> void ordenarParcial(IArregloDinamico<T> datos, int k, Comparator<T> c) {
+		if (k < 0) throw new IllegalArgumentException("No se puede ordenar un numero negativo de datos");
+		int n = datos.darTamano();
+		if (k == 0 || n < 2) return;
+		shuffle(datos);
+		if (k < n) seleccionarK(datos, 0, n - 1, k - 1, c);
+		ordenarQuickSort(datos, 0, Math.min(k, n) - 1, c);
+	}
+	
+	/**
+	 * Reordenar datos[min..max] de forma que datos[k] quede en su posicion final, con los menores o
+	 * iguales antes y los mayores o iguales despues. Usa la misma particion de 3 vias que QuickSort, pero
+	 * solo sigue con la parte que contiene a k.
+	 */
+	private static <T> void seleccionarK(IArregloDinamico<T> datos, int min, int max, int k, Comparator<T> c) {
+		while (max - min >= CORTE_INSERCION) {
+			exchange(datos, min, mediana(datos, min, (min + max) >>> 1, max, c));
+			T ref = datos.darObjeto(min);
+			
+			int lt = min;
+			int i = min + 1;
+			int gt = max;
+			while (i <= gt) {
+				int cmp = c.compare(datos.darObjeto(i), ref);
+				if (cmp < 0) exchange(datos, lt++, i++);
+				else if (cmp > 0) exchange(datos, i, gt--);
+				else i++;
+			}
+			
+			if (k < lt) max = lt - 1;
+			else if (k > gt) min = gt + 1;
+			else return;
+		}
+		ordenarInsercion(datos, min, max, c);
+	}
+	/*
+	 * **********************************************************************************************
+	 */
+	
+	/*
+	 * **********************************************************************************************
+	 * *********************************** HEAP SORT ************************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Ordenar datos aplicando el algoritmo HeapSort sobre el mismo arreglo, sin memoria adicional.
+	 * Toma O(n log n) en el peor caso. Usa el mismo sink que MaxHeapCP, con el heap en las posiciones 0..n-1.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static <T> void ordenarHeapSort(IArregloDinamico<T> datos, Comparator<T> c) {
+		int n = datos.darTamano();
+		// Construir el heap de abajo hacia arriba
+		for (int k = n/2; k >= 1; k--) MaxHeapCP.sink(datos, k, n, -1, c);
+		// Pasar el maximo al final y reparar el heap que queda
+		while (n > 1) {
+			exchange(datos, 0, n - 1);
+			n--;
+			MaxHeapCP.sink(datos, 1, n, -1, c);
+		}
+	}
+	/*
+	 * **********************************************************************************************
+	 */
+	
+	/*
+	 * **********************************************************************************************
+	 * *********************************** PRIMITIVOS ***********************************************
+	 * **********************************************************************************************
+	 */
+	/**
+	 * Ordenar ascendentemente un arreglo de ints aplicando el algoritmo ShellSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarShellSort(ArregloDinamicoInt datos) {
+		int n = datos.darTamano();
+		for (int h : giveSequence(n)) {
+			// insertion-sort de los h-subarrays, desplazando en vez de intercambiar
+			for (int j = h; j < n; j++) {
+				int dato = datos.darObjeto(j);
+				int posOfInserting = j;
+				while (posOfInserting >= h && dato < datos.darObjeto(posOfInserting - h)) {
+					datos.cambiarEnPos(posOfInserting, datos.darObjeto(posOfInserting - h));
+					posOfInserting -= h;
+				}
+				datos.cambiarEnPos(posOfInserting, dato);
+			}
+		}
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de ints con Arrays.sort(int[]), sin boxing. Entre ints iguales la
+	 * estabilidad no importa. Arrays.sort revisa primero si los datos son pocas corridas ya ordenadas y en ese
+	 * caso solo las mezcla, por lo que listas casi ordenadas se ordenan en tiempo cercano a lineal.
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenar(ArregloDinamicoInt datos) {
+		int n = datos.darTamano();
+		if (n < 2) return;
+		int[] arreglo = new int[n];
+		for (int i = 0; i < n; i++) arreglo[i] = datos.darObjeto(i);
+		Arrays.sort(arreglo);
+		for (int i = 0; i < n; i++) datos.cambiarEnPos(i, arreglo[i]);
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de ints aplicando el algoritmo QuickSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarQuickSort(ArregloDinamicoInt datos) {
+		shuffle(datos);
+		ordenarQuickSort(datos, 0, datos.darTamano()-1);
+	}
+	
+	private static void ordenarQuickSort(ArregloDinamicoInt datos, int min, int max) {
+		while (max - min >= CORTE_INSERCION) {
+			exchange(datos, min, mediana(datos, min, (min + max) >>> 1, max));
+			int ref = datos.darObjeto(min);
+			
+			// Particion de 3 vias: [min..lt-1] < ref, [lt..gt] == ref, [gt+1..max] > ref
+			int lt = min;
+			int i = min + 1;
+			int gt = max;
+			while (i <= gt) {
+				int dato = datos.darObjeto(i);
+				if (dato < ref) exchange(datos, lt++, i++);
+				else if (ref < dato) exchange(datos, i, gt--);
+				else i++;
+			}
+			
+			if (lt - min < max - gt) {
+				ordenarQuickSort(datos, min, lt - 1);
+				min = gt + 1;
+			} else {
+				ordenarQuickSort(datos, gt + 1, max);
+				max = lt - 1;
+			}
+		}
+		// InsertionSort de los subarreglos pequenos
+		for (int i = min + 1; i <= max; i++) {
+			int dato = datos.darObjeto(i);
+			int j = i;
+			while (j > min && dato < datos.darObjeto(j - 1)) {
+				datos.cambiarEnPos(j, datos.darObjeto(j - 1));
+				j--;
+			}
+			datos.cambiarEnPos(j, dato);
+		}
+	}
+	
+	private static int mediana(ArregloDinamicoInt datos, int i, int j, int k) {
+		int a = datos.darObjeto(i);
+		int b = datos.darObjeto(j);
+		int c = datos.darObjeto(k);
+		return a < b ? (b < c ? j : a < c ? k : i) : (c < b ? j : c < a ? k : i);
+	}
+	
+	/**
+	 * Retorna true si el arreglo de ints esta ordenado ascendentemente
+	 */
+	public static boolean isSorted(ArregloDinamicoInt datos) {
+		for (int i = 0; i < datos.darTamano()-1; i++)
+			if (datos.darObjeto(i+1) < datos.darObjeto(i)) return false;
+		return true;
+	}
+	
+	private static void exchange(ArregloDinamicoInt datos, int i, int j) {
+		int temp = datos.darObjeto(i);
+		datos.cambiarEnPos(i, datos.darObjeto(j));
+		datos.cambiarEnPos(j, temp);
+	}
+	
+	private static void shuffle(ArregloDinamicoInt datos) {
+		int n = datos.darTamano();
+		for (int i = 0; i < n; i++) exchange(datos, i, i + random.nextInt(n-i));
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de longs aplicando el algoritmo ShellSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarShellSort(ArregloDinamicoLong datos) {
+		int n = datos.darTamano();
+		for (int h : giveSequence(n)) {
+			// insertion-sort de los h-subarrays, desplazando en vez de intercambiar
+			for (int j = h; j < n; j++) {
+				long dato = datos.darObjeto(j);
+				int posOfInserting = j;
+				while (posOfInserting >= h && dato < datos.darObjeto(posOfInserting - h)) {
+					datos.cambiarEnPos(posOfInserting, datos.darObjeto(posOfInserting - h));
+					posOfInserting -= h;
+				}
+				datos.cambiarEnPos(posOfInserting, dato);
+			}
+		}
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de longs aplicando el algoritmo QuickSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarQuickSort(ArregloDinamicoLong datos) {
+		shuffle(datos);
+		ordenarQuickSort(datos, 0, datos.darTamano()-1);
+	}
+	
+	private static void ordenarQuickSort(ArregloDinamicoLong datos, int min, int max) {
+		while (max - min >= CORTE_INSERCION) {
+			exchange(datos, min, mediana(datos, min, (min + max) >>> 1, max));
+			long ref = datos.darObjeto(min);
+			
+			// Particion de 3 vias: [min..lt-1] < ref, [lt..gt] == ref, [gt+1..max] > ref
+			int lt = min;
+			int i = min + 1;
+			int gt = max;
+			while (i <= gt) {
+				long dato = datos.darObjeto(i);
+				if (dato < ref) exchange(datos, lt++, i++);
+				else if (ref < dato) exchange(datos, i, gt--);
+				else i++;
+			}
+			
+			if (lt - min < max - gt) {
+				ordenarQuickSort(datos, min, lt - 1);
+				min = gt + 1;
+			} else {
+				ordenarQuickSort(datos, gt + 1, max);
+				max = lt - 1;
+			}
+		}
+		// InsertionSort de los subarreglos pequenos
+		for (int i = min + 1; i <= max; i++) {
+			long dato = datos.darObjeto(i);
+			int j = i;
+			while (j > min && dato < datos.darObjeto(j - 1)) {
+				datos.cambiarEnPos(j, datos.darObjeto(j - 1));
+				j--;
+			}
+			datos.cambiarEnPos(j, dato);
+		}
+	}
+	
+	private static int mediana(ArregloDinamicoLong datos, int i, int j, int k) {
+		long a = datos.darObjeto(i);
+		long b = datos.darObjeto(j);
+		long c = datos.darObjeto(k);
+		return a < b ? (b < c ? j : a < c ? k : i) : (c < b ? j : c < a ? k : i);
+	}
+	
+	/**
+	 * Retorna true si el arreglo de longs esta ordenado ascendentemente
+	 */
+	public static boolean isSorted(ArregloDinamicoLong datos) {
+		for (int i = 0; i < datos.darTamano()-1; i++)
+			if (datos.darObjeto(i+1) < datos.darObjeto(i)) return false;
+		return true;
+	}
+	
+	private static void exchange(ArregloDinamicoLong datos, int i, int j) {
+		long temp = datos.darObjeto(i);
+		datos.cambiarEnPos(i, datos.darObjeto(j));
+		datos.cambiarEnPos(j, temp);
+	}
+	
+	private static void shuffle(ArregloDinamicoLong datos) {
+		int n = datos.darTamano();
+		for (int i = 0; i < n; i++) exchange(datos, i, i + random.nextInt(n-i));
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de doubles aplicando el algoritmo ShellSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarShellSort(ArregloDinamicoDouble datos) {
+		int n = datos.darTamano();
+		for (int h : giveSequence(n)) {
+			// insertion-sort de los h-subarrays, desplazando en vez de intercambiar
+			for (int j = h; j < n; j++) {
+				double dato = datos.darObjeto(j);
+				int posOfInserting = j;
+				while (posOfInserting >= h && Double.compare(dato, datos.darObjeto(posOfInserting - h)) < 0) {
+					datos.cambiarEnPos(posOfInserting, datos.darObjeto(posOfInserting - h));
+					posOfInserting -= h;
+				}
+				datos.cambiarEnPos(posOfInserting, dato);
+			}
+		}
+	}
+	
+	/**
+	 * Ordenar ascendentemente un arreglo de doubles aplicando el algoritmo QuickSort, sin boxing
+	 * @param datos - conjunto de datos a ordenar (inicio) y conjunto de datos ordenados (final)
+	 */
+	public static void ordenarQuickSort(ArregloDinamicoDouble datos) {
+		shuffle(datos);
+		ordenarQuickSort(datos, 0, datos.darTamano()-1);
+	}
+	
+	private static void ordenarQuickSort(ArregloDinamicoDouble datos, int min, int max) {
+		while (max - min >= CORTE_INSERCION) {
+			exchange(datos, min, mediana(datos, min, (min + max) >>> 1, max));
+			double ref = datos.darObjeto(min);
+			
+			// Particion de 3 vias: [min..lt-1] < ref, [lt..gt] == ref, [gt+1..max] > ref
+			int lt = min;
+			int i = min + 1;
+			int gt = max;
+			while (i <= gt) {
+				double dato = datos.darObjeto(i);
+				int cmp = Double.compare(dato, ref);
+				if (cmp < 0) exchange(datos, lt++, i++);
+				else if (cmp > 0) exchange(datos, i, gt--);
+				else i++;
+			}
+			
+			if (lt - min < max - gt) {
+				ordenarQuickSort(datos, min, lt - 1);
+				min = gt + 1;
+			} else {
+				ordenarQuickSort(datos, gt + 1, max);
+				max = lt - 1;
+			}
+		}
+		// InsertionSort de los subarreglos pequenos
+		for (int i = min + 1; i <= max; i++) {
+			double dato = datos.darObjeto(i);
+			int j = i;
+			while (j > min && Double.compare(dato, datos.darObjeto(j - 1)) < 0) {
+				datos.cambiarEnPos(j, datos.darObjeto(j - 1));
+				j--;
+			}
+			datos.cambiarEnPos(j, dato);
+		}
+	}
+	
+	private static int mediana(ArregloDinamicoDouble datos, int i, int j, int k) {
+		double a = datos.darObjeto(i);
+		double b = datos.darObjeto(j);
+		double c = datos.darObjeto(k);
+		// Double.compare ordena NaN despues de todos los numeros, igual que ShellSort e isSorted
+		return Double.compare(a, b) < 0 ?
+				(Double.compare(b, c) < 0 ? j : Double.compare(a, c) < 0 ? k : i) :
+				(Double.compare(c, b) < 0 ? j : Double.compare(c, a) < 0 ? k : i);
+	}
+	
+	/**
+	 * Retorna true si el arreglo de doubles esta ordenado ascendentemente
+	 */
+	public static boolean isSorted(ArregloDinamicoDouble datos) {
+		for (int i = 0; i < datos.darTamano()-1; i++)
+			if (Double.compare(datos.darObjeto(i+1), datos.darObjeto(i)) < 0) return false;
+		return true;
+	}
+	
+	private static void exchange(ArregloDinamicoDouble datos, int i, int j) {
+		double temp = datos.darObjeto(i);
+		datos.cambiarEnPos(i, datos.darObjeto(j));
+		datos.cambiarEnPos(j, temp);
+	}
+	
+	private static void shuffle(ArregloDinamicoDouble datos) {
+		int n = datos.darTamano();
+		for (int i = 0; i < n; i++) exchange(datos, i, i + random.nextInt(n-i));
+	}
+	/*
+	 * **********************************************************************************************
+	 */
+	
+	
 	/**
 	 * Comparar 2 objetos usando la comparacion "natural" de su clase
 	 * @param v primer objeto de comparacion
@@ -176,6 +1036,23 @@ public class Sort {
 		return c.compare(v, w) < 0;
 	}
 	
+	/**
+	 * Copiar los datos a un arreglo nuevo
+	 */
+	private static <T> T[] aArreglo(IArregloDinamico<T> datos) {
+		T[] arreglo = (T[]) new Object[datos.darTamano()];
+		int i = 0;
+		for (T dato : datos) arreglo[i++] = dato;
+		return arreglo;
+	}
+	
+	/**
+	 * Escribir los elementos del arreglo en los datos, en las mismas posiciones
+	 */
+	private static <T> void deArreglo(T[] arreglo, IArregloDinamico<T> datos) {
+		for (int i = 0; i < arreglo.length; i++) datos.cambiarEnPos(i, arreglo[i]);
+	}
+	
 	/**
 	 * Intercambiar los datos de las posicion i y j
 	 * @param datos contenedor de datos
@@ -195,13 +1072,24 @@ public class Sort {
 		return true;
 	}
 	
+	/**
+	 * Desordenar los datos. Usa un generador con semilla fija (ver fijarSemilla()), por lo que la misma
+	 * secuencia de llamados produce siempre el mismo orden.
+	 */
 	public static <T> void shuffle(IArregloDinamico<T> datos) {
 		int n = datos.darTamano();
 		int r;
-		Random random = new Random(System.currentTimeMillis());
-        for (int i = 0; i < n; i++) {
-            r = i + random.nextInt(n-i);
-            exchange(datos, i, r);
-        }
+		for (int i = 0; i < n; i++) {
+			r = i + random.nextInt(n-i);
+			exchange(datos, i, r);
+		}
+	}
+	
+	/**
+	 * Reiniciar el generador usado para desordenar con la semilla dada, e.g. antes de cada medicion
+	 * para que todas desordenen igual
+	 */
+	public static void fijarSemilla(long semilla) {
+		random = new Random(semilla);
 	}
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package model.vo;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 
@@ -59,30 +61,19 @@ public class VOMovingViolation {
 		
 		
 		// Si se considera ADDRESS_ID como int:
-		campo = linea[headerPositions[ADDRESS_ID]];
-		if (!campo.equals("")) addressID = Integer.parseInt(campo);
-		else addressID = -1;
+		addressID = leerEntero(linea[headerPositions[ADDRESS_ID]]);
 		// Si se considera ADDRESS_ID como String
 		//addressID = linea[headerPositions[ADDRESS_ID]];
 
-		campo = linea[headerPositions[STREETSEGID]];
-		if (!campo.equals("")) streetsegID = Integer.parseInt(campo);
-		else streetsegID = -1;
+		streetsegID = leerEntero(linea[headerPositions[STREETSEGID]]);
 		
 		totalPaid = Double.parseDouble(linea[headerPositions[TOTALPAID]]);
 		
-		campo = linea[headerPositions[PENALTY1]];
-		if (!campo.equals("")) penalty1 = Double.parseDouble(campo);
-		else penalty1 = 0;
+		penalty1 = leerDouble(linea[headerPositions[PENALTY1]]);
 		
-		campo = linea[headerPositions[PENALTY2]];
-		if (!campo.equals("")) penalty2 = Double.parseDouble(campo);
-		else penalty2 = 0;
+		penalty2 = leerDouble(linea[headerPositions[PENALTY2]]);
 		
-		campo = linea[headerPositions[ACCIDENTINDICATOR]];
-		if 		(campo.equalsIgnoreCase("Yes")) accidentIndicator = true;
-		else if (campo.equalsIgnoreCase("No"))	accidentIndicator = false;
-		else throw new IllegalArgumentException("El indicador de accidente no tiene un valor reconocible.");
+		accidentIndicator = leerIndicadorAccidente(linea[headerPositions[ACCIDENTINDICATOR]]);
 		
 		campo = linea[headerPositions[TICKETISSUEDATE]];
 		ticketIssueDate = LocalDateTime.parse(campo, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'.000Z'"));
@@ -94,6 +85,97 @@ public class VOMovingViolation {
 		fineAmount = Integer.parseInt(linea[headerPositions[FINEAMT]]);
 	}
 
+	/**
+	 * Constructor. Recibe los atributos ya interpretados (e.g. leidos de VOMovingViolationColumnas)
+	 */
+	public VOMovingViolation(String iD, String location, int addressID, int streetsegID, int fineAmount,
+			double totalPaid, double penalty1, double penalty2, boolean accidentIndicator,
+			LocalDateTime ticketIssueDate, String violationCode, String violationDesc){
+		this.iD = iD;
+		this.location = location;
+		this.addressID = addressID;
+		this.streetsegID = streetsegID;
+		this.fineAmount = fineAmount;
+		this.totalPaid = totalPaid;
+		this.penalty1 = penalty1;
+		this.penalty2 = penalty2;
+		this.accidentIndicator = accidentIndicator;
+		this.ticketIssueDate = ticketIssueDate;
+		this.violationCode = violationCode;
+		this.violationDesc = violationDesc;
+	}
+
+	/*
+	 * Lectura de los campos del archivo CSV. Tambien la usa VOMovingViolationColumnas, que carga las lineas
+	 * sin crear un VOMovingViolation
+	 */
+	/**
+	 * @return el entero del campo, o -1 si el campo esta vacio
+	 */
+	static int leerEntero(String campo) {
+		if (campo.equals("")) return -1;
+		return Integer.parseInt(campo);
+	}
+
+	/**
+	 * @return el numero del campo, o 0 si el campo esta vacio
+	 */
+	static double leerDouble(String campo) {
+		if (campo.equals("")) return 0;
+		return Double.parseDouble(campo);
+	}
+
+	/**
+	 * @return true si el campo es "Yes", false si es "No" (sin importar mayusculas)
+	 * @throws IllegalArgumentException si el campo tiene otro valor
+	 */
+	static boolean leerIndicadorAccidente(String campo) {
+		if 		(campo.equalsIgnoreCase("Yes")) return true;
+		else if (campo.equalsIgnoreCase("No"))	return false;
+		else throw new IllegalArgumentException("El indicador de accidente no tiene un valor reconocible.");
+	}
+
+	/**
+	 * Leer una fecha con formato yyyy-MM-dd'T'HH:mm:ss'.000Z' como segundos desde 1970-01-01T00:00:00Z,
+	 * sin crear un LocalDateTime. Da lo mismo que VOMovingViolationColumnas.aSegundos de la fecha leida
+	 * @throws IllegalArgumentException si el campo no tiene el formato o la fecha no existe
+	 */
+	static long leerFechaEnSegundos(String campo) {
+		if (campo.length() != 24 || campo.charAt(4) != '-' || campo.charAt(7) != '-' || campo.charAt(10) != 'T'
+				|| campo.charAt(13) != ':' || campo.charAt(16) != ':' || !campo.endsWith(".000Z")) {
+			throw new IllegalArgumentException("La fecha no tiene un formato reconocible: " + campo);
+		}
+		int agno = leerDigitos(campo, 0, 4);
+		int mes = leerDigitos(campo, 5, 7);
+		int dia = leerDigitos(campo, 8, 10);
+		int hora = leerDigitos(campo, 11, 13);
+		int minuto = leerDigitos(campo, 14, 16);
+		int segundo = leerDigitos(campo, 17, 19);
+		if (mes < 1 || mes > 12 || dia < 1 || dia > Month.of(mes).length(Year.isLeap(agno))
+				|| hora > 23 || minuto > 59 || segundo > 59) {
+			throw new IllegalArgumentException("La fecha no existe: " + campo);
+		}
+		
+		// Dias desde 1970-01-01 (algoritmo days_from_civil de H. Hinnant, con el agno empezando en marzo)
+		int a = mes <= 2 ? agno - 1 : agno;
+		int era = a / 400;
+		int agnoDeEra = a - era * 400;
+		int diaDelAgno = (153 * (mes > 2 ? mes - 3 : mes + 9) + 2) / 5 + dia - 1;
+		int diaDeEra = agnoDeEra * 365 + agnoDeEra / 4 - agnoDeEra / 100 + diaDelAgno;
+		long dias = era * 146097L + diaDeEra - 719468;
+		return dias * 86400 + hora * 3600 + minuto * 60 + segundo;
+	}
+
+	private static int leerDigitos(String campo, int inicio, int fin) {
+		int numero = 0;
+		for (int i = inicio; i < fin; i++) {
+			char c = campo.charAt(i);
+			if (c < '0' || c > '9') throw new IllegalArgumentException("La fecha no tiene un formato reconocible: " + campo);
+			numero = numero * 10 + (c - '0');
+		}
+		return numero;
+	}
+
 	/**
 	 * @return id - Identificador único de la infracción
 	 */
@@ -243,7 +325,7 @@ public class VOMovingViolation {
 
 		@Override
 		public int compare(VOMovingViolation arg0, VOMovingViolation arg1) {
-			return arg0.getAddressID() - arg1.getAddressID();
+			return Integer.compare(arg0.getAddressID(), arg1.getAddressID());
 		}
 	}
 }
\ No newline at end of file
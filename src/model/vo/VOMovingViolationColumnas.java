@@ -0,0 +1,353 @@
+package model.vo;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+
+import model.data_structures.ArregloDinamicoDouble;
+import model.data_structures.ArregloDinamicoInt;
+import model.data_structures.ArregloDinamicoLong;
+import model.data_structures.ArregloDinamicoSegmentado;
+import model.util.Sort;
+
+/**
+ * Conjunto de infracciones guardado por columnas: cada atributo numerico de las infracciones se guarda en
+ * un arreglo de primitivos, y la fecha como segundos desde 1970-01-01T00:00:00Z. Los textos se guardan en
+ * arreglos por bloques, y los textos iguales (location, codigo y descripcion) se guardan una sola vez.
+ * Las filas se cargan directamente del archivo, sin crear un VOMovingViolation por fila, y se leen con los
+ * metodos dar por columna o con una vista Fila reutilizable.
+ */
+public class VOMovingViolationColumnas {
+	/*
+	 * Atributos
+	 */
+	private ArregloDinamicoInt addressID;
+	private ArregloDinamicoInt streetsegID;
+	private ArregloDinamicoInt fineAmount;
+	private ArregloDinamicoDouble totalPaid;
+	private ArregloDinamicoDouble penalty1;
+	private ArregloDinamicoDouble penalty2;
+	/**
+	 * Fecha de cada infraccion en segundos desde 1970-01-01T00:00:00Z
+	 */
+	private ArregloDinamicoLong ticketIssueDate;
+	private ArregloDinamicoSegmentado<Boolean> accidentIndicator;
+	private ArregloDinamicoSegmentado<String> objectId;
+	private ArregloDinamicoSegmentado<String> location;
+	private ArregloDinamicoSegmentado<String> violationCode;
+	private ArregloDinamicoSegmentado<String> violationDesc;
+	/**
+	 * Una copia de cada texto repetido (location, codigo, descripcion), para que las filas lo compartan
+	 */
+	private HashMap<String, String> compartidos;
+
+	/*
+	 * Constructores
+	 */
+	/**
+	 * Construir un conjunto vacio con la capacidad inicial dada
+	 * @param max capacidad inicial de las columnas de primitivos
+	 */
+	public VOMovingViolationColumnas(int max) {
+		max = Math.max(max, 2);
+		addressID = new ArregloDinamicoInt(max);
+		streetsegID = new ArregloDinamicoInt(max);
+		fineAmount = new ArregloDinamicoInt(max);
+		totalPaid = new ArregloDinamicoDouble(max);
+		penalty1 = new ArregloDinamicoDouble(max);
+		penalty2 = new ArregloDinamicoDouble(max);
+		ticketIssueDate = new ArregloDinamicoLong(max);
+		accidentIndicator = new ArregloDinamicoSegmentado<Boolean>();
+		objectId = new ArregloDinamicoSegmentado<String>();
+		location = new ArregloDinamicoSegmentado<String>();
+		violationCode = new ArregloDinamicoSegmentado<String>();
+		violationDesc = new ArregloDinamicoSegmentado<String>();
+		compartidos = new HashMap<String, String>();
+	}
+
+	/**
+	 * Construir un conjunto vacio
+	 */
+	public VOMovingViolationColumnas() {
+		this(2);
+	}
+
+	/*
+	 * Metodos
+	 */
+	/**
+	 * Agregar una infraccion leida del archivo CSV. Los campos se leen directamente a las columnas, con las
+	 * mismas reglas del constructor de VOMovingViolation pero sin crear el VOMovingViolation ni el LocalDateTime.
+	 * Si la linea no es valida no se agrega nada.
+	 * @param headerPositions posicion de cada header de VOMovingViolation.EXPECTEDHEADERS en la linea
+	 * @param linea campos de la infraccion
+	 * @throws IllegalArgumentException si el indicador de accidente o la fecha no son validos
+	 */
+	public void agregar(int[] headerPositions, String[] linea) {
+		// Leer primero todos los campos, para no dejar las columnas con tamanos distintos si alguno falla
+		int address = VOMovingViolation.leerEntero(linea[headerPositions[VOMovingViolation.ADDRESS_ID]]);
+		int streetseg = VOMovingViolation.leerEntero(linea[headerPositions[VOMovingViolation.STREETSEGID]]);
+		int fine = Integer.parseInt(linea[headerPositions[VOMovingViolation.FINEAMT]]);
+		double paid = Double.parseDouble(linea[headerPositions[VOMovingViolation.TOTALPAID]]);
+		double p1 = VOMovingViolation.leerDouble(linea[headerPositions[VOMovingViolation.PENALTY1]]);
+		double p2 = VOMovingViolation.leerDouble(linea[headerPositions[VOMovingViolation.PENALTY2]]);
+		boolean accidente = VOMovingViolation.leerIndicadorAccidente(linea[headerPositions[VOMovingViolation.ACCIDENTINDICATOR]]);
+		long fecha = VOMovingViolation.leerFechaEnSegundos(linea[headerPositions[VOMovingViolation.TICKETISSUEDATE]]);
+
+		addressID.agregar(address);
+		streetsegID.agregar(streetseg);
+		fineAmount.agregar(fine);
+		totalPaid.agregar(paid);
+		penalty1.agregar(p1);
+		penalty2.agregar(p2);
+		ticketIssueDate.agregar(fecha);
+		accidentIndicator.agregar(accidente);
+		// Como en VOMovingViolation, el OBJECTID se toma de la primera columna
+		objectId.agregar(linea[VOMovingViolation.OBJECTID]);
+		location.agregar(compartir(linea[headerPositions[VOMovingViolation.LOCATION]]));
+		violationCode.agregar(compartir(linea[headerPositions[VOMovingViolation.VIOLATIONCODE]]));
+		violationDesc.agregar(compartir(linea[headerPositions[VOMovingViolation.VIOLATIONDESC]]));
+	}
+
+	/**
+	 * Retornar la copia guardada del texto, o guardarlo si es la primera vez que aparece
+	 */
+	private String compartir(String texto) {
+		String compartido = compartidos.get(texto);
+		if (compartido == null) {
+			compartidos.put(texto, texto);
+			compartido = texto;
+		}
+		return compartido;
+	}
+
+	/**
+	 * Ordenar las filas por addressID. Es estable: las filas con el mismo addressID conservan su orden.
+	 * Calcular el orden usa tres int[n] temporales (la copia de las llaves, el orden y un auxiliar del radix).
+	 * Al reordenar las columnas solo queda el orden, y se reconstruye una columna a la vez, por lo que en esa
+	 * parte la memoria adicional es el orden mas una columna.
+	 */
+	public void ordenarPorAddressID() {
+		int[] orden = Sort.darOrdenRadix(addressID);
+		addressID = reordenar(addressID, orden);
+		streetsegID = reordenar(streetsegID, orden);
+		fineAmount = reordenar(fineAmount, orden);
+		totalPaid = reordenar(totalPaid, orden);
+		penalty1 = reordenar(penalty1, orden);
+		penalty2 = reordenar(penalty2, orden);
+		ticketIssueDate = reordenar(ticketIssueDate, orden);
+		accidentIndicator = reordenar(accidentIndicator, orden);
+		objectId = reordenar(objectId, orden);
+		location = reordenar(location, orden);
+		violationCode = reordenar(violationCode, orden);
+		violationDesc = reordenar(violationDesc, orden);
+	}
+
+	private static ArregloDinamicoInt reordenar(ArregloDinamicoInt columna, int[] orden) {
+		ArregloDinamicoInt nueva = new ArregloDinamicoInt(Math.max(orden.length, 2));
+		for (int posicion : orden) nueva.agregar(columna.darObjeto(posicion));
+		return nueva;
+	}
+
+	private static ArregloDinamicoLong reordenar(ArregloDinamicoLong columna, int[] orden) {
+		ArregloDinamicoLong nueva = new ArregloDinamicoLong(Math.max(orden.length, 2));
+		for (int posicion : orden) nueva.agregar(columna.darObjeto(posicion));
+		return nueva;
+	}
+
+	private static ArregloDinamicoDouble reordenar(ArregloDinamicoDouble columna, int[] orden) {
+		ArregloDinamicoDouble nueva = new ArregloDinamicoDouble(Math.max(orden.length, 2));
+		for (int posicion : orden) nueva.agregar(columna.darObjeto(posicion));
+		return nueva;
+	}
+
+	private static <T> ArregloDinamicoSegmentado<T> reordenar(ArregloDinamicoSegmentado<T> columna, int[] orden) {
+		ArregloDinamicoSegmentado<T> nueva = new ArregloDinamicoSegmentado<T>();
+		for (int posicion : orden) nueva.agregar(columna.darObjeto(posicion));
+		return nueva;
+	}
+
+	/**
+	 * Retornar el numero de infracciones
+	 */
+	public int darTamano() {
+		return addressID.darTamano();
+	}
+
+	public int darAddressID(int i) {
+		return addressID.darObjeto(i);
+	}
+
+	public int darStreetsegID(int i) {
+		return streetsegID.darObjeto(i);
+	}
+
+	public int darFineAmount(int i) {
+		return fineAmount.darObjeto(i);
+	}
+
+	public double darTotalPaid(int i) {
+		return totalPaid.darObjeto(i);
+	}
+
+	public double darPenalty1(int i) {
+		return penalty1.darObjeto(i);
+	}
+
+	public double darPenalty2(int i) {
+		return penalty2.darObjeto(i);
+	}
+
+	/**
+	 * @return fecha de la infraccion i en segundos desde 1970-01-01T00:00:00Z
+	 */
+	public long darTicketIssueDate(int i) {
+		return ticketIssueDate.darObjeto(i);
+	}
+
+	public boolean darAccidentIndicator(int i) {
+		verificarPosicion(i);
+		return accidentIndicator.darObjeto(i);
+	}
+
+	public String darObjectId(int i) {
+		verificarPosicion(i);
+		return objectId.darObjeto(i);
+	}
+
+	public String darLocation(int i) {
+		verificarPosicion(i);
+		return location.darObjeto(i);
+	}
+
+	public String darViolationCode(int i) {
+		verificarPosicion(i);
+		return violationCode.darObjeto(i);
+	}
+
+	public String darViolationDesc(int i) {
+		verificarPosicion(i);
+		return violationDesc.darObjeto(i);
+	}
+
+	/**
+	 * Crear una vista de las filas, ubicada en la fila 0. La vista no copia datos: se mueve con moverA(i)
+	 * y lee de las columnas, por lo que un solo objeto sirve para recorrer todas las filas.
+	 */
+	public Fila darFila() {
+		return new Fila();
+	}
+
+	/**
+	 * Crear un VOMovingViolation con los datos de la infraccion en la posicion i.
+	 * Se crea un nuevo objeto en cada llamado; para recorrer muchas filas es mejor usar darFila().
+	 * @param i posicion de la infraccion
+	 */
+	public VOMovingViolation darInfraccion(int i) {
+		verificarPosicion(i);
+		return new VOMovingViolation(objectId.darObjeto(i), location.darObjeto(i), addressID.darObjeto(i),
+				streetsegID.darObjeto(i), fineAmount.darObjeto(i), totalPaid.darObjeto(i), penalty1.darObjeto(i),
+				penalty2.darObjeto(i), accidentIndicator.darObjeto(i),
+				LocalDateTime.ofEpochSecond(ticketIssueDate.darObjeto(i), 0, ZoneOffset.UTC),
+				violationCode.darObjeto(i), violationDesc.darObjeto(i));
+	}
+
+	/**
+	 * Convertir una fecha al formato en que se guarda (segundos desde 1970-01-01T00:00:00Z)
+	 */
+	public static long aSegundos(LocalDateTime fecha) {
+		return fecha.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private void verificarPosicion(int i) {
+		if (i < 0 || darTamano() <= i) throw new IllegalArgumentException("No existe tal posicion en el arreglo.");
+	}
+
+	/**
+	 * Vista reutilizable de una fila del conjunto. Cada get lee la columna en la posicion actual, asi que la
+	 * vista sigue siendo valida despues de agregar filas o de ordenarPorAddressID (muestra la fila que quedo
+	 * en su posicion).
+	 */
+	public class Fila {
+		/**
+		 * Posicion de la fila que se esta viendo
+		 */
+		private int posicion;
+
+		private Fila() {
+			posicion = 0;
+		}
+
+		/**
+		 * Ubicar la vista en la fila i
+		 * @return esta misma vista
+		 */
+		public Fila moverA(int i) {
+			verificarPosicion(i);
+			posicion = i;
+			return this;
+		}
+
+		public int darPosicion() {
+			return posicion;
+		}
+
+		public String objectId() {
+			return darObjectId(posicion);
+		}
+
+		public String getLocation() {
+			return darLocation(posicion);
+		}
+
+		public int getAddressID() {
+			return darAddressID(posicion);
+		}
+
+		public int getStreetsegID() {
+			return darStreetsegID(posicion);
+		}
+
+		public int getFineAmount() {
+			return darFineAmount(posicion);
+		}
+
+		public double getTotalPaid() {
+			return darTotalPaid(posicion);
+		}
+
+		public double getPenalty1() {
+			return darPenalty1(posicion);
+		}
+
+		public double getPenalty2() {
+			return darPenalty2(posicion);
+		}
+
+		public boolean getAccidentIndicator() {
+			return darAccidentIndicator(posicion);
+		}
+
+		/**
+		 * @return fecha de la infraccion en segundos desde 1970-01-01T00:00:00Z
+		 */
+		public long getTicketIssueDate() {
+			return darTicketIssueDate(posicion);
+		}
+
+		public String getViolationCode() {
+			return darViolationCode(posicion);
+		}
+
+		public String getViolationDescription() {
+			return darViolationDesc(posicion);
+		}
+
+		/**
+		 * Crear un VOMovingViolation con los datos de la fila actual
+		 */
+		public VOMovingViolation aInfraccion() {
+			return darInfraccion(posicion);
+		}
+	}
+}
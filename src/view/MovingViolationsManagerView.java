@@ -19,6 +19,7 @@ public class MovingViolationsManagerView
 		System.out.println("4. MaxColaPrioridad: Calcular tiempo promedio para agregar y eliminar datos segun la muestra actual");
 		System.out.println("5. MaxHeapCP: Calcular tiempo promedio para agregar y eliminar datos segun la muestra actual");
 		System.out.println("6. Comparacin de tiempos MaxColaPrioridad vs MxHeapCP");
+		System.out.println("7. Top K: LocationVOs con mas infracciones en un rango de fechas");
 		System.out.println("Digite el numero de opcion para ejecutar la tarea, luego presione enter: (Ej., 1):");
 		
 	}
@@ -0,0 +1,53 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class ArregloDinamicoIntTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private ArregloDinamicoInt arreglo;
+	private final int N = 1000;
+
+	/*
+	 * Escenarios
+	 */
+	// Arreglo con los numeros 0, ..., n-1
+	private void setUpEscenario(int n) {
+		arreglo = new ArregloDinamicoInt();
+		for (int i = 0; i < n; i++) arreglo.agregar(i);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba agregar y darObjeto
+	 */
+	public void testAgregar() {
+		setUpEscenario(N);
+		assertEquals("El arreglo deberia tener " + N + " elementos", N, arreglo.darTamano());
+		for (int i = 0; i < N; i++) assertEquals("El elemento no es el esperado", i, arreglo.darObjeto(i));
+		try {
+			arreglo.darObjeto(N);
+			fail("Deberia lanzar excepcion");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+
+	/**
+	 * Prueba cambiarEnPos y eliminarEnPos
+	 */
+	public void testCambiarYEliminar() {
+		setUpEscenario(N);
+		arreglo.cambiarEnPos(10, -1);
+		assertEquals("El elemento no se cambio", -1, arreglo.darObjeto(10));
+		assertEquals("El elemento eliminado no es el esperado", -1, arreglo.eliminarEnPos(10));
+		assertEquals("Los datos deberian quedar compactos", 11, arreglo.darObjeto(10));
+		for (int i = N - 2; i >= 0; i--) arreglo.eliminarEnPos(i);
+		assertEquals("El arreglo deberia estar vacio", 0, arreglo.darTamano());
+		arreglo.agregar(7);
+		assertEquals("El elemento no es el esperado", 7, arreglo.darObjeto(0));
+	}
+}
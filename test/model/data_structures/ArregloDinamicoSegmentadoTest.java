@@ -0,0 +1,78 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class ArregloDinamicoSegmentadoTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private ArregloDinamicoSegmentado<String> arreglo;
+	// Bloques pequenos para probar los cambios de bloque
+	private final int bitsBloque = 3;
+	private final int N = 100;
+
+	/*
+	 * Escenarios
+	 */
+	// Arreglo con n elementos
+	private void setUpEscenario(int n) {
+		arreglo = new ArregloDinamicoSegmentado<String>(bitsBloque);
+		for (int i = 0; i < n; i++) arreglo.agregar("Elemento " + i);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba agregar, darObjeto y el iterador
+	 */
+	public void testAgregar() {
+		for (int n = 0; n <= N; n++) {
+			setUpEscenario(n);
+			assertEquals("Escenario: " + n + ". Tamano incorrecto", n, arreglo.darTamano());
+			int i = 0;
+			for (String dato : arreglo) {
+				assertEquals("Escenario: " + n + ". Elemento incorrecto", "Elemento " + i, dato);
+				assertEquals("Escenario: " + n + ". Elemento incorrecto", "Elemento " + i, arreglo.darObjeto(i));
+				i++;
+			}
+			assertEquals("Escenario: " + n + ". El iterador deberia devolver " + n + " elementos", n, i);
+			assertEquals("Escenario: " + n + ". No hay elemento en esa posicion", null, arreglo.darObjeto(n));
+		}
+	}
+
+	/**
+	 * Prueba cambiarEnPos
+	 */
+	public void testCambiarEnPos() {
+		setUpEscenario(N);
+		for (int i = 0; i < N; i += 7) arreglo.cambiarEnPos(i, "Nuevo " + i);
+		for (int i = 0; i < N; i++) {
+			String esperado = (i % 7 == 0) ? "Nuevo " + i : "Elemento " + i;
+			assertEquals("Elemento incorrecto", esperado, arreglo.darObjeto(i));
+		}
+	}
+
+	/**
+	 * Prueba eliminar elementos en distintas posiciones de los bloques, y agregar despues de eliminar
+	 */
+	public void testEliminarEnPos() {
+		setUpEscenario(N);
+		// Eliminar todos los multiplos de 3
+		for (int i = N - 1 - (N - 1) % 3; i >= 0; i -= 3) {
+			assertEquals("El elemento eliminado no es el esperado", "Elemento " + i, arreglo.eliminarEnPos(i));
+		}
+		int k = 0;
+		for (int i = 0; i < N; i++) {
+			if (i % 3 == 0) continue;
+			assertEquals("Los datos deberian quedar compactos", "Elemento " + i, arreglo.darObjeto(k++));
+		}
+		assertEquals("Tamano incorrecto", k, arreglo.darTamano());
+
+		// Vaciar desde el inicio y volver a llenar
+		while (arreglo.darTamano() > 0) arreglo.eliminarEnPos(0);
+		assertEquals("No hay elemento en esa posicion", null, arreglo.eliminarEnPos(0));
+		for (int i = 0; i < N; i++) arreglo.agregar("Otro " + i);
+		for (int i = 0; i < N; i++) assertEquals("Elemento incorrecto", "Otro " + i, arreglo.darObjeto(i));
+	}
+}
@@ -3,7 +3,11 @@
  */
 package model.data_structures;
 
+import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import junit.framework.TestCase;
 import model.data_structures.ArregloDinamico;
@@ -213,6 +217,117 @@ public class ArregloDinamicoTest extends TestCase{
 		}
 	}
 	
+	/**
+	 * Prueba que la capacidad se reduzca al eliminar elementos, y que no se reduzca de nuevo hasta
+	 * que el arreglo vuelva a quedar a un cuarto de su capacidad
+	 */
+	public void testReducirCapacidad() {
+		int n = 1024;
+		setUpEscenario(n, 0);
+		assertEquals("El arreglo deberia estar lleno", n, arreglo.darCapacidad());
+		
+		for (int i = n - 1; i >= n/4; i--) arreglo.eliminarEnPos(i);
+		assertEquals("La capacidad deberia haberse reducido a la mitad", n/2, arreglo.darCapacidad());
+		for (int i = n/4 - 1; i > n/8; i--) arreglo.eliminarEnPos(i);
+		assertEquals("La capacidad no deberia haber cambiado", n/2, arreglo.darCapacidad());
+		
+		// Eliminar el resto desde el inicio, verificando que se mantenga el orden
+		for (int i = 0; i <= n/8; i++) {
+			assertEquals("El elemento eliminado no es el esperado", "Elemento " + i, arreglo.eliminarEnPos(0));
+		}
+		assertEquals("El arreglo deberia estar vacio", 0, arreglo.darTamano());
+		assertTrue("La capacidad deberia haberse reducido", arreglo.darCapacidad() <= 4);
+	}
+	
+	/**
+	 * Prueba quitar de una vez los elementos del final, reduciendo la capacidad a lo sumo una vez
+	 */
+	public void testRecortar() {
+		int n = 1024;
+		setUpEscenario(n, 0);
+		arreglo.recortar(n);
+		assertEquals("No deberia eliminar elementos", n, arreglo.darTamano());
+		assertEquals("La capacidad no deberia cambiar", n, arreglo.darCapacidad());
+		
+		arreglo.recortar(n/2);
+		assertEquals("No quedo el numero de elementos esperado", n/2, arreglo.darTamano());
+		assertEquals("La capacidad no deberia cambiar si el arreglo queda a la mitad", n, arreglo.darCapacidad());
+		assertNull("Los elementos eliminados no deberian estar", arreglo.darObjeto(n/2));
+		
+		arreglo.recortar(10);
+		assertEquals("No quedo el numero de elementos esperado", 10, arreglo.darTamano());
+		assertEquals("La capacidad deberia ser el doble del tamano", 20, arreglo.darCapacidad());
+		for (int i = 0; i < 10; i++) {
+			assertEquals("Los elementos restantes no deberian cambiar", "Elemento " + i, arreglo.darObjeto(i));
+		}
+		arreglo.agregar("Nuevo");
+		assertEquals("Deberia poder agregar despues de recortar", "Nuevo", arreglo.darObjeto(10));
+		
+		arreglo.recortar(0);
+		assertEquals("El arreglo deberia estar vacio", 0, arreglo.darTamano());
+		assertEquals("La capacidad deberia ser la minima", 2, arreglo.darCapacidad());
+		
+		try {
+			arreglo.recortar(1);
+			fail("No deberia poder recortar a un tamano mayor");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		try {
+			arreglo.recortar(-1);
+			fail("No deberia poder recortar a un tamano negativo");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+	
+	/**
+	 * Prueba asegurarCapacidad(), recortarCapacidad() y el factor de crecimiento
+	 */
+	public void testCapacidad() {
+		arreglo = new ArregloDinamico<String>(10, 1.5);
+		for (int i = 0; i < 11; i++) arreglo.agregar("Elemento " + i);
+		assertEquals("La capacidad deberia haber crecido en un factor de 1.5", 15, arreglo.darCapacidad());
+		
+		arreglo.asegurarCapacidad(100);
+		assertEquals("La capacidad deberia ser 100", 100, arreglo.darCapacidad());
+		arreglo.asegurarCapacidad(50);
+		assertEquals("La capacidad no deberia reducirse", 100, arreglo.darCapacidad());
+		
+		arreglo.recortarCapacidad();
+		assertEquals("La capacidad deberia ser igual al tamano", 11, arreglo.darCapacidad());
+		for (int i = 0; i < 11; i++) {
+			assertEquals("Los elementos no deberian cambiar", "Elemento " + i, arreglo.darObjeto(i));
+		}
+		
+		try {
+			new ArregloDinamico<String>(10, 1);
+			fail("Deberia lanzar excepcion");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+	
+	/**
+	 * Prueba recorrer el arreglo en paralelo con su Spliterator
+	 */
+	public void testSpliterator() {
+		int n = 10000;
+		setUpEscenario(n, 0);
+		
+		Spliterator<String> spliterator = arreglo.spliterator();
+		assertTrue("El Spliterator deberia conocer su tamano", spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		Spliterator<String> prefijo = spliterator.trySplit();
+		assertEquals("Las partes deberian tener el mismo tamano", n/2, prefijo.getExactSizeIfKnown());
+		assertEquals("Las partes deberian tener el mismo tamano", n/2, spliterator.getExactSizeIfKnown());
+		
+		List<String> datos = StreamSupport.stream(arreglo.spliterator(), true).collect(Collectors.toList());
+		assertEquals("Deberian recorrerse todos los elementos", n, datos.size());
+		for (int i = 0; i < n; i++) {
+			assertEquals("Los elementos deberian estar en orden", "Elemento " + i, datos.get(i));
+		}
+	}
+	
 	/**
 	 * Prueba el metodo iterator()
 	 */
@@ -0,0 +1,62 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class DaryMaxHeapCPTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private DaryMaxHeapCP<Integer> cp;
+	private final int N = 1000;
+	private final int[] aridades = new int[] {2, 3, 4, 8};
+
+	/*
+	 * Escenarios
+	 */
+	// Datos desordenados y con prioridades repetidas
+	private ArregloDinamico<Integer> darDatos() {
+		return VerificadorColaPrioridad.darDatosDesordenados(N);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola vacia y una aridad invalida
+	 */
+	public void testColaVacia() {
+		cp = new DaryMaxHeapCP<Integer>(4);
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("No hay elementos deberia retornar null", null, cp.delMax());
+		assertEquals("No hay elementos deberia retornar null", null, cp.max());
+		try {
+			new DaryMaxHeapCP<Integer>(1);
+			fail("Deberia lanzar excepcion");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+
+	/**
+	 * Prueba agregar y delMax para varias aridades
+	 */
+	public void testAgregarDelMax() {
+		for (int d : aridades) {
+			cp = new DaryMaxHeapCP<Integer>(d);
+			ArregloDinamico<Integer> datos = darDatos();
+			for (Integer dato : datos) cp.agregar(dato);
+			VerificadorColaPrioridad.verificarVaciado("Aridad " + d + ". ", cp, datos);
+		}
+	}
+
+	/**
+	 * Prueba la construccion desde un arreglo para varias aridades
+	 */
+	public void testConstruccionDesdeArreglo() {
+		for (int d : aridades) {
+			ArregloDinamico<Integer> datos = darDatos();
+			cp = new DaryMaxHeapCP<Integer>(d, datos);
+			VerificadorColaPrioridad.verificarVaciado("Aridad " + d + ". ", cp, datos);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class IntMaxHeapTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private IntMaxHeap heap;
+	private final int N = 1000;
+
+	/*
+	 * Escenarios
+	 */
+	// Heap vacio
+	private void setUpEscenario0() {
+		heap = new IntMaxHeap();
+	}
+
+	// Heap con N elementos, el de id i con prioridad i % 10
+	private void setUpEscenario1() {
+		heap = new IntMaxHeap();
+		for (int i = 0; i < N; i++) heap.agregar(i % 10, i);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba el heap vacio
+	 */
+	public void testHeapVacio() {
+		setUpEscenario0();
+		assertTrue("El heap deberia estar vacio", heap.esVacia());
+		assertEquals("El heap deberia tener 0 elementos", 0, heap.darNumElementos());
+		try {
+			heap.delMax();
+			fail("Deberia lanzar excepcion");
+		} catch (IllegalStateException e) {
+			// Esperado
+		}
+	}
+
+	/**
+	 * Prueba que los elementos se eliminen en orden de prioridad, y de menor id en caso de empate
+	 */
+	public void testDelMax() {
+		setUpEscenario1();
+		assertEquals("El heap deberia tener " + N + " elementos", N, heap.darNumElementos());
+		for (int p = 9; p >= 0; p--) {
+			for (int id = p; id < N; id += 10) {
+				assertEquals("La prioridad no es la esperada", p, heap.maxPrioridad());
+				assertEquals("El id no es el esperado", id, heap.delMax());
+			}
+		}
+		assertTrue("El heap deberia estar vacio", heap.esVacia());
+	}
+}
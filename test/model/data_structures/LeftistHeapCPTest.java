@@ -0,0 +1,133 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class LeftistHeapCPTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private LeftistHeapCP<Integer> cp;
+	private final int N = 1000;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cp = new LeftistHeapCP<Integer>();
+	}
+
+	// Cola con los elementos 0..N-1 agregados en orden ascendente: cada nuevo elemento es el maximo,
+	// por lo que sin la propiedad leftist el arbol quedaria como una sola rama
+	private void setUpEscenario1() {
+		cp = new LeftistHeapCP<Integer>();
+		for (int i = 0; i < N; i++) cp.agregar(i);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola vacia y unir con colas vacias
+	 */
+	public void testColaVacia() {
+		setUpEscenario0();
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("No hay elementos deberia retornar null", null, cp.delMax());
+		assertEquals("No hay elementos deberia retornar null", null, cp.max());
+		assertEquals("La espina derecha de la cola vacia no tiene nodos", 0, cp.darLargoEspinaDerecha());
+
+		LeftistHeapCP<Integer> otra = new LeftistHeapCP<Integer>();
+		otra.agregar(7);
+		cp.meld(otra);
+		assertEquals("Deberia tener el elemento de la otra cola", 7, cp.max().intValue());
+		cp.meld(new LeftistHeapCP<Integer>());
+		assertEquals("Unir con una cola vacia no deberia cambiar la cola", 1, cp.darNumElementos());
+		cp.meld(cp);
+		assertEquals("Unir la cola consigo misma no deberia cambiarla", 1, cp.darNumElementos());
+	}
+
+	/**
+	 * Prueba que la espina derecha se mantenga en O(log n) al agregar en orden ascendente y descendente,
+	 * y mientras se eliminan elementos
+	 */
+	public void testEspinaDerecha() {
+		setUpEscenario1();
+		assertTrue("No se cumple la propiedad leftist", cp.esLeftist());
+		assertTrue("La espina derecha es demasiado larga", cp.darLargoEspinaDerecha() <= log2(N + 1));
+
+		LeftistHeapCP<Integer> descendente = new LeftistHeapCP<Integer>();
+		for (int i = N - 1; i >= 0; i--) descendente.agregar(i);
+		assertTrue("No se cumple la propiedad leftist", descendente.esLeftist());
+		assertTrue("La espina derecha es demasiado larga", descendente.darLargoEspinaDerecha() <= log2(N + 1));
+
+		for (int i = N - 1; i >= N/2; i--) {
+			assertEquals("Los elementos no se estan eliminando en orden", i, cp.delMax().intValue());
+			assertTrue("La espina derecha es demasiado larga", cp.darLargoEspinaDerecha() <= log2(cp.darNumElementos() + 1));
+		}
+		assertTrue("No se cumple la propiedad leftist", cp.esLeftist());
+	}
+
+	/**
+	 * Prueba muchas uniones de colas de tamanos muy distintos: la cola resultante sigue siendo leftist,
+	 * con espina derecha corta, y no pierde elementos
+	 */
+	public void testMeldDesbalanceados() {
+		setUpEscenario0();
+		int total = 0;
+		int maximo = -1;
+		for (int m = 1; m <= 200; m++) {
+			// Alternar colas de 1 elemento y colas grandes agregadas en orden
+			int tamano = (m % 2 == 0) ? 1 : m * 10;
+			LeftistHeapCP<Integer> otra = new LeftistHeapCP<Integer>();
+			for (int i = 0; i < tamano; i++) otra.agregar(total + i);
+			maximo = total + tamano - 1;
+			total += tamano;
+
+			// Unir a veces la grande a la pequena y a veces al reves
+			if (m % 3 == 0) {
+				otra.meld(cp);
+				assertTrue("La otra cola deberia quedar vacia", cp.esVacia());
+				cp = otra;
+			} else {
+				cp.meld(otra);
+				assertTrue("La otra cola deberia quedar vacia", otra.esVacia());
+			}
+			assertEquals("Numero de elementos incorrecto", total, cp.darNumElementos());
+			assertEquals("El maximo no es el esperado", maximo, cp.max().intValue());
+			assertTrue("La espina derecha es demasiado larga", cp.darLargoEspinaDerecha() <= log2(total + 1));
+		}
+		assertTrue("No se cumple la propiedad leftist", cp.esLeftist());
+
+		for (int i = total - 1; i >= 0; i--) {
+			assertEquals("Los elementos no se estan eliminando en orden", i, cp.delMax().intValue());
+		}
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+	}
+
+	/**
+	 * Prueba el orden con prioridades repetidas despues de unir
+	 */
+	public void testMeldRepetidos() {
+		setUpEscenario0();
+		LeftistHeapCP<Integer> otra = new LeftistHeapCP<Integer>();
+		for (int i = 0; i < N; i++) {
+			cp.agregar(i % 10);
+			otra.agregar(i % 10);
+		}
+		cp.meld(otra);
+		assertTrue("No se cumple la propiedad leftist", cp.esLeftist());
+		int contados = 0;
+		for (@SuppressWarnings("unused") Integer dato : cp) contados++;
+		assertEquals("El iterador deberia devolver todos los elementos", 2*N, contados);
+		for (int valor = 9; valor >= 0; valor--) {
+			for (int i = 0; i < 2*N/10; i++) assertEquals("Los elementos no se estan eliminando en orden", valor, cp.delMax().intValue());
+		}
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+	}
+
+	// Parte entera de log2(n)
+	private int log2(int n) {
+		return 31 - Integer.numberOfLeadingZeros(n);
+	}
+}
@@ -0,0 +1,135 @@
+package model.data_structures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+import model.vo.LocationVO;
+
+public class MaxColaPrioridadConcurrenteTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private MaxColaPrioridadConcurrente<Integer> cp;
+	private final int nHilos = 8;
+	private final int nPorHilo = 20000;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cp = new MaxColaPrioridadConcurrente<Integer>();
+	}
+
+	// Cola a la que nHilos hilos agregaron nPorHilo elementos cada uno al mismo tiempo.
+	// El hilo h agrega los numeros h, h + nHilos, h + 2*nHilos, ...
+	private void setUpEscenario1() throws InterruptedException {
+		setUpEscenario0();
+		Thread[] hilos = new Thread[nHilos];
+		for (int h = 0; h < nHilos; h++) {
+			final int inicio = h;
+			hilos[h] = new Thread(() -> {
+				for (int i = 0; i < nPorHilo; i++) cp.agregar(inicio + i*nHilos);
+			});
+		}
+		for (Thread hilo : hilos) hilo.start();
+		for (Thread hilo : hilos) hilo.join();
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola vacia y el orden entre elementos de igual prioridad
+	 */
+	public void testColaVacia() {
+		setUpEscenario0();
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("No hay elementos deberia retornar null", null, cp.delMax());
+		assertEquals("No hay elementos deberia retornar null", null, cp.max());
+
+		// 2 LocationVOs distintos con la misma prioridad (mismo numero de infracciones y misma location)
+		MaxColaPrioridadConcurrente<LocationVO> locations = new MaxColaPrioridadConcurrente<LocationVO>();
+		LocationVO primero = new LocationVO(1, "Calle 1", 5);
+		LocationVO segundo = new LocationVO(2, "Calle 1", 5);
+		locations.agregar(new LocationVO(3, "Calle 3", 1));
+		locations.agregar(primero);
+		locations.agregar(segundo);
+		assertSame("Deberia salir primero el que se agrego primero", primero, locations.delMax());
+		assertSame("Deberia salir despues el que se agrego despues", segundo, locations.delMax());
+		assertEquals("Deberia quedar el de addressID 3", 3, locations.delMax().getAddressID());
+		assertTrue("La cola deberia estar vacia", locations.esVacia());
+	}
+
+	/**
+	 * Prueba que no se pierdan elementos al agregar desde varios hilos, y que salgan en orden
+	 */
+	public void testAgregarConcurrente() throws InterruptedException {
+		setUpEscenario1();
+		int total = nHilos*nPorHilo;
+		assertEquals("No se deberian perder elementos", total, cp.darNumElementos());
+		for (int i = total - 1; i >= 0; i--) {
+			assertEquals("Los elementos no se estan eliminando en orden", i, cp.delMax().intValue());
+		}
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+	}
+
+	/**
+	 * Prueba que al sacar desde varios hilos cada elemento salga una sola vez, y que cada hilo
+	 * los reciba en orden descendente
+	 */
+	public void testDelMaxConcurrente() throws InterruptedException {
+		setUpEscenario1();
+		int total = nHilos*nPorHilo;
+		final boolean[] vistos = new boolean[total];
+		final AtomicInteger errores = new AtomicInteger();
+		Thread[] hilos = new Thread[nHilos];
+		for (int h = 0; h < nHilos; h++) {
+			hilos[h] = new Thread(() -> {
+				int anterior = Integer.MAX_VALUE;
+				Integer dato;
+				while ((dato = cp.delMax()) != null) {
+					if (dato > anterior) errores.incrementAndGet();
+					synchronized (vistos) {
+						if (vistos[dato]) errores.incrementAndGet();
+						vistos[dato] = true;
+					}
+					anterior = dato;
+				}
+			});
+		}
+		for (Thread hilo : hilos) hilo.start();
+		for (Thread hilo : hilos) hilo.join();
+
+		assertEquals("Hubo elementos repetidos o fuera de orden", 0, errores.get());
+		for (int i = 0; i < total; i++) assertTrue("El elemento " + i + " se perdio", vistos[i]);
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("La cola deberia tener 0 elementos", 0, cp.darNumElementos());
+	}
+
+	/**
+	 * Prueba agregar y sacar al mismo tiempo desde varios hilos
+	 */
+	public void testAgregarYDelMaxConcurrente() throws InterruptedException {
+		setUpEscenario0();
+		final AtomicInteger sacados = new AtomicInteger();
+		Thread[] hilos = new Thread[2*nHilos];
+		for (int h = 0; h < nHilos; h++) {
+			final int inicio = h;
+			hilos[2*h] = new Thread(() -> {
+				for (int i = 0; i < nPorHilo; i++) cp.agregar(inicio + i*nHilos);
+			});
+			hilos[2*h + 1] = new Thread(() -> {
+				for (int i = 0; i < nPorHilo/2; i++) {
+					if (cp.delMax() != null) sacados.incrementAndGet();
+				}
+			});
+		}
+		for (Thread hilo : hilos) hilo.start();
+		for (Thread hilo : hilos) hilo.join();
+
+		int restantes = 0;
+		while (cp.delMax() != null) restantes++;
+		assertEquals("No se deberian perder elementos", nHilos*nPorHilo, sacados.get() + restantes);
+	}
+}
@@ -0,0 +1,127 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+import model.vo.LocationVO;
+
+public class MaxHeapCPIndexadoTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private MaxHeapCPIndexado<Integer, LocationVO> cp;
+	// Elementos que deberian estar en la cola
+	private ArregloDinamico<LocationVO> datos;
+	private final int N = 100;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cp = new MaxHeapCPIndexado<Integer, LocationVO>(LocationVO::getAddressID);
+	}
+
+	// Cola con N elementos, el de addressID i con i+10 registros
+	private void setUpEscenario1() {
+		setUpEscenario0();
+		datos = new ArregloDinamico<LocationVO>(N);
+		for (int i = 0; i < N; i++) {
+			datos.agregar(new LocationVO(i, "NA", i+10));
+			cp.agregar(datos.darObjeto(i));
+		}
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola vacia
+	 */
+	public void testColaVacia() {
+		setUpEscenario0();
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("No hay elementos deberia retornar null", null, cp.delMax());
+		assertEquals("No hay elementos deberia retornar null", null, cp.eliminar(5));
+		assertFalse("No deberia contener la llave", cp.contiene(5));
+		int i = 0;
+		for (@SuppressWarnings("unused") LocationVO loc : cp) i++;
+		assertEquals("El iterador no deberia retornar elementos", 0, i);
+	}
+
+	/**
+	 * Prueba que no se puedan agregar 2 elementos con la misma llave
+	 */
+	public void testAgregarLlaveRepetida() {
+		setUpEscenario1();
+		try {
+			cp.agregar(new LocationVO(3, "NA", 1));
+			fail("Deberia lanzar excepcion");
+		} catch (IllegalArgumentException e) {
+			assertEquals("No deberia haber cambiado el tamano", N, cp.darNumElementos());
+		}
+	}
+
+	/**
+	 * Prueba aumentar la prioridad de un elemento que ya esta en la cola
+	 */
+	public void testIncreaseKey() {
+		setUpEscenario1();
+		LocationVO loc = cp.darElemento(20);
+		loc.changeNumberOrRegs(1000);
+		cp.increaseKey(20);
+		assertEquals("El maximo deberia ser el elemento modificado", loc, cp.delMax());
+
+		cp.cambiarPrioridad(40, new LocationVO(40, "NA", 500));
+		assertEquals("El maximo deberia ser el elemento reemplazado", 40, cp.delMax().getAddressID());
+		verificarVaciado(quitarLlaves(20, 40));
+	}
+
+	/**
+	 * Prueba disminuir la prioridad de un elemento que ya esta en la cola
+	 */
+	public void testDecreaseKey() {
+		setUpEscenario1();
+		LocationVO loc = cp.darElemento(N - 1);
+		loc.changeNumberOrRegs(0);
+		cp.decreaseKey(N - 1);
+		assertEquals("El maximo deberia ser el siguiente elemento", N - 2, cp.max().getAddressID());
+
+		cp.cambiarPrioridad(N - 2, new LocationVO(N - 2, "NA", -1));
+		for (int i = 0; i < N - 2; i++) cp.delMax();
+		assertEquals("Deberia quedar el elemento con prioridad 0", loc, cp.delMax());
+		assertEquals("Deberia quedar el elemento con prioridad -1", N - 2, cp.delMax().getAddressID());
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+	}
+
+	/**
+	 * Prueba eliminar elementos por llave
+	 */
+	public void testEliminar() {
+		setUpEscenario1();
+		ArregloDinamico<LocationVO> restantes = new ArregloDinamico<LocationVO>(N);
+		for (int i = 0; i < N; i++) {
+			if (i % 3 == 0) {
+				assertEquals("El elemento eliminado no es el esperado", datos.darObjeto(i), cp.eliminar(i));
+				assertFalse("No deberia contener la llave " + i, cp.contiene(i));
+			}
+			else restantes.agregar(datos.darObjeto(i));
+		}
+		verificarVaciado(restantes);
+	}
+
+	// Elementos de datos sin los de las llaves dadas
+	private ArregloDinamico<LocationVO> quitarLlaves(int... llaves) {
+		ArregloDinamico<LocationVO> restantes = new ArregloDinamico<LocationVO>(N);
+		for (LocationVO loc : datos) {
+			boolean quitar = false;
+			for (int llave : llaves) quitar |= loc.getAddressID() == llave;
+			if (!quitar) restantes.agregar(loc);
+		}
+		return restantes;
+	}
+
+	// Verifica que al vaciar la cola salgan exactamente los esperados, y que cada llave deje de estar al eliminarla
+	private void verificarVaciado(ArregloDinamico<LocationVO> esperados) {
+		VerificadorColaPrioridad.verificarVaciado("", cp, esperados,
+				loc -> assertFalse("No deberia contener la llave eliminada", cp.contiene(loc.getAddressID())));
+	}
+}
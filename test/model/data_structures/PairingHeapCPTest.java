@@ -0,0 +1,75 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+
+public class PairingHeapCPTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private PairingHeapCP<Integer> cp;
+	private ArregloDinamico<Integer> datos;
+	private final int N = 1000;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cp = new PairingHeapCP<Integer>();
+	}
+
+	// Cola con N elementos desordenados y con prioridades repetidas
+	private void setUpEscenario1() {
+		cp = new PairingHeapCP<Integer>();
+		datos = VerificadorColaPrioridad.darDatosDesordenados(N);
+		for (Integer dato : datos) cp.agregar(dato);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola vacia
+	 */
+	public void testColaVacia() {
+		setUpEscenario0();
+		assertTrue("La cola deberia estar vacia", cp.esVacia());
+		assertEquals("No hay elementos deberia retornar null", null, cp.delMax());
+		assertEquals("No hay elementos deberia retornar null", null, cp.max());
+		assertFalse("No deberia haber elementos sobre los cuales iterar", cp.iterator().hasNext());
+	}
+
+	/**
+	 * Prueba que los elementos se eliminen en orden
+	 */
+	public void testDelMax() {
+		setUpEscenario1();
+		assertEquals("Numero de elementos incorrecto", N, cp.darNumElementos());
+		int contados = 0;
+		for (@SuppressWarnings("unused") Integer dato : cp) contados++;
+		assertEquals("El iterador deberia devolver todos los elementos", N, contados);
+		VerificadorColaPrioridad.verificarVaciado("", cp, datos);
+	}
+
+	/**
+	 * Prueba unir 2 colas
+	 */
+	public void testMeld() {
+		setUpEscenario1();
+		PairingHeapCP<Integer> otra = new PairingHeapCP<Integer>();
+		for (int i = 0; i < N; i++) {
+			Integer dato = N + i;
+			otra.agregar(dato);
+			// Los 10 mayores se sacan antes de unir las colas
+			if (i < N - 10) datos.agregar(dato);
+		}
+		// Sacar algunos elementos para que la otra cola no sea solo una lista de hijos de la raiz
+		for (int i = 0; i < 10; i++) otra.delMax();
+
+		cp.meld(otra);
+		assertTrue("La otra cola deberia quedar vacia", otra.esVacia());
+		assertEquals("Numero de elementos incorrecto", 2*N - 10, cp.darNumElementos());
+		assertEquals("El maximo no es el esperado", 2*N - 11, cp.max().intValue());
+		VerificadorColaPrioridad.verificarVaciado("", cp, datos);
+	}
+}
@@ -0,0 +1,101 @@
+package model.data_structures;
+
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class QueueBloqueanteTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private QueueBloqueante<Integer> cola;
+	private final int capacidad = 16;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cola = new QueueBloqueante<Integer>(capacidad);
+	}
+
+	// Cola llena con los numeros 0, ..., capacidad-1
+	private void setUpEscenario1() {
+		setUpEscenario0();
+		for (int i = 0; i < capacidad; i++) cola.enqueue(i);
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba los tiempos de espera maximos con la cola vacia y llena
+	 */
+	public void testTiemposDeEspera() throws InterruptedException {
+		setUpEscenario0();
+		assertEquals("Deberia retornar null", null, cola.dequeue());
+		assertEquals("Deberia retornar null despues de esperar", null, cola.poll(10, TimeUnit.MILLISECONDS));
+		assertTrue("Deberia haber esperado al sacar", cola.darNanosBloqueadoSacar() > 0);
+
+		setUpEscenario1();
+		assertFalse("No deberia poder agregar a la cola llena", cola.offer(-1, 10, TimeUnit.MILLISECONDS));
+		assertEquals("La cola deberia seguir llena", capacidad, cola.size());
+		assertEquals("Deberia registrar que encontro la cola llena", 1, cola.darVecesLlena());
+		assertTrue("Deberia haber esperado al agregar", cola.darNanosBloqueadoAgregar() > 0);
+		assertEquals("La ocupacion maxima deberia ser la capacidad", capacidad, cola.darOcupacionMaxima());
+	}
+
+	/**
+	 * Prueba sacar varios elementos a la vez
+	 */
+	public void testDrainTo() {
+		setUpEscenario1();
+		ArregloDinamico<Integer> destino = new ArregloDinamico<Integer>();
+		try {
+			cola.drainTo(destino, -3);
+			fail("Deberia lanzar excepcion con un maximo negativo");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		assertEquals("La cola no deberia cambiar", capacidad, cola.size());
+		assertEquals("Deberian sacarse 0 elementos", 0, cola.drainTo(destino, 0));
+		assertEquals("Deberian sacarse 10 elementos", 10, cola.drainTo(destino, 10));
+		assertEquals("Deberian sacarse los 6 restantes", capacidad - 10, cola.drainTo(destino, 100));
+		for (int i = 0; i < capacidad; i++) assertEquals("Elemento incorrecto", i, destino.darObjeto(i).intValue());
+		assertTrue("La cola deberia estar vacia", cola.isEmpty());
+	}
+
+	/**
+	 * Prueba que un productor mas rapido que el consumidor nunca pase la capacidad, y que no se pierdan elementos
+	 */
+	public void testContrapresion() throws InterruptedException {
+		setUpEscenario0();
+		final int n = 20000;
+		Thread productor = new Thread(() -> {
+			try {
+				for (int i = 0; i < n; i++) cola.put(i);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		productor.start();
+
+		ArregloDinamico<Integer> lote = new ArregloDinamico<Integer>();
+		int recibidos = 0;
+		while (recibidos < n) {
+			if (recibidos % 2 == 0) {
+				assertEquals("Los elementos no salen en orden", recibidos, cola.take().intValue());
+				recibidos++;
+			} else {
+				int antes = lote.darTamano();
+				cola.drainTo(lote, 5);
+				for (int i = antes; i < lote.darTamano(); i++) {
+					assertEquals("Los elementos no salen en orden", recibidos++, lote.darObjeto(i).intValue());
+				}
+			}
+		}
+		productor.join();
+		assertTrue("La ocupacion nunca deberia pasar la capacidad", cola.darOcupacionMaxima() <= capacidad);
+		assertTrue("La cola deberia estar vacia", cola.isEmpty());
+	}
+}
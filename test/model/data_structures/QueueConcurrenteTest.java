@@ -0,0 +1,88 @@
+package model.data_structures;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+public class QueueConcurrenteTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private QueueConcurrente<Integer> cola;
+	private final int nProductores = 8;
+	private final int nPorProductor = 50000;
+
+	/*
+	 * Escenarios
+	 */
+	// Cola vacia
+	private void setUpEscenario0() {
+		cola = new QueueConcurrente<Integer>();
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba la cola desde un solo hilo
+	 */
+	public void testUnHilo() {
+		setUpEscenario0();
+		assertTrue("La cola deberia estar vacia", cola.isEmpty());
+		assertEquals("Deberia retornar null", null, cola.dequeue());
+		for (int i = 0; i < 10; i++) cola.enqueue(i);
+		assertEquals("La cola deberia tener 10 elementos", 10, cola.size());
+		int i = 0;
+		for (Integer dato : cola) assertEquals("El iterador no recorre en orden", i++, dato.intValue());
+		for (i = 0; i < 10; i++) assertEquals("El elemento eliminado no es el esperado", i, cola.dequeue().intValue());
+		assertTrue("La cola deberia estar vacia", cola.isEmpty());
+		assertEquals("La cola deberia tener 0 elementos", 0, cola.size());
+	}
+
+	/**
+	 * Prueba varios hilos agregando mientras un hilo saca: no se pierden ni repiten elementos, y los
+	 * elementos de cada productor salen en el orden en que los agrego
+	 */
+	public void testVariosProductoresUnConsumidor() throws InterruptedException {
+		setUpEscenario0();
+		final AtomicBoolean terminaron = new AtomicBoolean(false);
+		final AtomicInteger errores = new AtomicInteger();
+		final int[] recibidos = new int[nProductores];
+
+		Thread consumidor = new Thread(() -> {
+			int[] siguiente = new int[nProductores];
+			while (true) {
+				boolean fin = terminaron.get();
+				Integer dato = cola.dequeue();
+				if (dato == null) {
+					if (fin) break;
+					continue;
+				}
+				// El productor p agrega p, p + nProductores, p + 2*nProductores, ...
+				int p = dato % nProductores;
+				if (dato / nProductores != siguiente[p]) errores.incrementAndGet();
+				siguiente[p]++;
+				recibidos[p]++;
+			}
+		});
+		Thread[] productores = new Thread[nProductores];
+		for (int p = 0; p < nProductores; p++) {
+			final int inicio = p;
+			productores[p] = new Thread(() -> {
+				for (int i = 0; i < nPorProductor; i++) cola.enqueue(inicio + i*nProductores);
+			});
+		}
+		consumidor.start();
+		for (Thread productor : productores) productor.start();
+		for (Thread productor : productores) productor.join();
+		terminaron.set(true);
+		consumidor.join();
+
+		assertEquals("Hubo elementos fuera de orden", 0, errores.get());
+		for (int p = 0; p < nProductores; p++) {
+			assertEquals("Se perdieron elementos del productor " + p, nPorProductor, recibidos[p]);
+		}
+		assertTrue("La cola deberia estar vacia", cola.isEmpty());
+	}
+}
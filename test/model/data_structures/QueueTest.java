@@ -1,6 +1,10 @@
 package model.data_structures;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import junit.framework.TestCase;
 import model.data_structures.Queue;
@@ -59,6 +63,26 @@ public class QueueTest extends TestCase{
 		assertTrue("El iterador deberia identificar y devolver 2 elementos", i == 2);
 	}
 	
+	/**
+	 * Prueba recorrer la cola en paralelo con su Spliterator
+	 */
+	public void testSpliterator() {
+		int n = 10001;
+		cola = new Queue<String>();
+		for (int i = 0; i < n; i++) cola.enqueue("Elemento " + i);
+		
+		Spliterator<String> spliterator = cola.spliterator();
+		Spliterator<String> prefijo = spliterator.trySplit();
+		assertEquals("El prefijo deberia tener la mitad de los elementos", n/2, prefijo.getExactSizeIfKnown());
+		assertEquals("El resto deberia tener los demas elementos", n - n/2, spliterator.getExactSizeIfKnown());
+		
+		List<String> datos = StreamSupport.stream(cola.spliterator(), true).collect(Collectors.toList());
+		assertEquals("Deberian recorrerse todos los elementos", n, datos.size());
+		for (int i = 0; i < n; i++) {
+			assertEquals("Los elementos deberian estar en orden", "Elemento " + i, datos.get(i));
+		}
+	}
+	
 	/**
 	 * Prueba el metodo isEmpty()
 	 */
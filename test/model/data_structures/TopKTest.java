@@ -0,0 +1,60 @@
+package model.data_structures;
+
+import junit.framework.TestCase;
+import model.vo.LocationVO;
+
+public class TopKTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private TopK<LocationVO> topK;
+	private ArregloDinamico<LocationVO> datos;
+	private final int N = 1000;
+	private final int K = 20;
+
+	/*
+	 * Escenarios
+	 */
+	// TopK de tamano K al que se le dieron N LocationVOs desordenadas y con numeros de registros repetidos
+	private void setUpEscenario1() {
+		topK = new TopK<LocationVO>(K);
+		datos = new ArregloDinamico<LocationVO>();
+		int i = 0;
+		for (Integer registros : VerificadorColaPrioridad.darDatosDesordenados(N)) datos.agregar(new LocationVO(i++, "NA", registros));
+		topK.agregarTodos(datos.iterator());
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba un TopK con menos de K elementos
+	 */
+	public void testPocosElementos() {
+		topK = new TopK<LocationVO>(K);
+		assertEquals("No deberia haber elementos", 0, topK.darTopK().darTamano());
+		assertEquals("No hay elementos deberia retornar null", null, topK.min());
+		for (int i = 0; i < 5; i++) topK.agregar(new LocationVO(i, "NA", i));
+		IArregloDinamico<LocationVO> respuesta = topK.darTopK();
+		assertEquals("Deberia haber 5 elementos", 5, respuesta.darTamano());
+		for (int i = 0; i < 5; i++) {
+			assertEquals("Los elementos no estan en orden descendente", 4 - i, respuesta.darObjeto(i).getNumberOfRegisters());
+		}
+	}
+
+	/**
+	 * Prueba que se guarden solo los K mayores, en orden descendente
+	 */
+	public void testDarTopK() {
+		setUpEscenario1();
+		int minimo = VerificadorColaPrioridad.ordenarDescendente(datos).get(K - 1).getNumberOfRegisters();
+		assertEquals("Deberia haber " + K + " elementos", K, topK.darNumElementos());
+		assertEquals("El minimo no es el esperado", minimo, topK.min().getNumberOfRegisters());
+		IArregloDinamico<LocationVO> respuesta = topK.darTopK();
+		assertEquals("Deberia haber " + K + " elementos", K, respuesta.darTamano());
+		VerificadorColaPrioridad.verificarMayores("", respuesta, datos);
+		// darTopK no debe modificar el TopK
+		assertEquals("El minimo no deberia cambiar", minimo, topK.min().getNumberOfRegisters());
+		VerificadorColaPrioridad.verificarMayores("", topK.darTopK(), datos);
+	}
+}
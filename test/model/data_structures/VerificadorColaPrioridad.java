@@ -0,0 +1,96 @@
+package model.data_structures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import junit.framework.Assert;
+
+/**
+ * Datos y verificaciones compartidas por las pruebas de colas de prioridad. Las verificaciones comparan lo que
+ * retorna la cola con una copia ordenada de los elementos agregados: no basta con que salgan en orden, deben
+ * salir exactamente los mismos objetos que se agregaron, cada uno las veces que se agrego.
+ */
+final class VerificadorColaPrioridad {
+
+	private VerificadorColaPrioridad() {
+	}
+
+	/**
+	 * Retorna n enteros desordenados entre 0 y n/2 - 1, con prioridades repetidas. Siempre son los mismos.
+	 */
+	static ArregloDinamico<Integer> darDatosDesordenados(int n) {
+		Random random = new Random(n);
+		ArregloDinamico<Integer> datos = new ArregloDinamico<Integer>(Math.max(n, 2));
+		for (int i = 0; i < n; i++) datos.agregar(random.nextInt(Math.max(n/2, 1)));
+		return datos;
+	}
+
+	/**
+	 * Retorna una copia de los elementos ordenada de mayor a menor
+	 */
+	static <T extends Comparable<T>> ArrayList<T> ordenarDescendente(Iterable<T> elementos) {
+		ArrayList<T> copia = new ArrayList<T>();
+		for (T elemento : elementos) copia.add(elemento);
+		Collections.sort(copia, Collections.reverseOrder());
+		return copia;
+	}
+
+	/**
+	 * Verifica que obtenidos sean los mayores de los agregados, de mayor a menor: el elemento i debe tener la
+	 * misma prioridad que el i-esimo mayor de los agregados, y cada elemento debe ser uno de los agregados que
+	 * no se haya retornado ya
+	 * @param mensaje prefijo de los mensajes de error
+	 */
+	static <T extends Comparable<T>> void verificarMayores(String mensaje, IArregloDinamico<T> obtenidos, Iterable<T> agregados) {
+		ArrayList<T> esperados = ordenarDescendente(agregados);
+		Assert.assertTrue(mensaje + "Hay mas elementos de los agregados", obtenidos.darTamano() <= esperados.size());
+
+		IdentityHashMap<T, Integer> pendientes = new IdentityHashMap<T, Integer>();
+		for (T elemento : esperados) {
+			Integer veces = pendientes.get(elemento);
+			pendientes.put(elemento, veces == null ? 1 : veces + 1);
+		}
+		for (int i = 0; i < obtenidos.darTamano(); i++) {
+			T actual = obtenidos.darObjeto(i);
+			Assert.assertNotNull(mensaje + "No deberia haber elementos null", actual);
+			Assert.assertEquals(mensaje + "Los elementos no estan en orden en la posicion " + i, 0, esperados.get(i).compareTo(actual));
+			Integer veces = pendientes.get(actual);
+			Assert.assertTrue(mensaje + "El elemento " + actual + " no se agrego o se retorno mas veces de las que se agrego",
+					veces != null && veces > 0);
+			pendientes.put(actual, veces - 1);
+		}
+	}
+
+	/**
+	 * Verifica que al vaciar la cola con delMax salgan exactamente los elementos agregados, de mayor a menor
+	 * @param mensaje prefijo de los mensajes de error
+	 */
+	static <T extends Comparable<T>> void verificarVaciado(String mensaje, IColaPrioridad<T> cp, Iterable<T> agregados) {
+		verificarVaciado(mensaje, cp, agregados, null);
+	}
+
+	/**
+	 * Verifica que al vaciar la cola con delMax salgan exactamente los elementos agregados, de mayor a menor
+	 * @param mensaje prefijo de los mensajes de error
+	 * @param alEliminar verificacion adicional sobre cada elemento despues de sacarlo de la cola. Puede ser null
+	 */
+	static <T extends Comparable<T>> void verificarVaciado(String mensaje, IColaPrioridad<T> cp, Iterable<T> agregados,
+			Consumer<T> alEliminar) {
+		int n = 0;
+		for (@SuppressWarnings("unused") T elemento : agregados) n++;
+		Assert.assertEquals(mensaje + "Numero de elementos incorrecto", n, cp.darNumElementos());
+
+		ArregloDinamico<T> eliminados = new ArregloDinamico<T>(Math.max(n, 2));
+		for (int i = 0; i < n; i++) {
+			T actual = cp.delMax();
+			eliminados.agregar(actual);
+			if (alEliminar != null && actual != null) alEliminar.accept(actual);
+		}
+		Assert.assertTrue(mensaje + "La cola deberia estar vacia", cp.esVacia());
+		Assert.assertNull(mensaje + "No hay elementos deberia retornar null", cp.delMax());
+		verificarMayores(mensaje, eliminados, agregados);
+	}
+}
@@ -4,6 +4,9 @@ import java.util.Comparator;
 
 import junit.framework.TestCase;
 import model.data_structures.ArregloDinamico;
+import model.data_structures.ArregloDinamicoDouble;
+import model.data_structures.ArregloDinamicoInt;
+import model.data_structures.ArregloDinamicoLong;
 
 public class SortTest extends TestCase{
 	/*
@@ -64,6 +67,226 @@ public class SortTest extends TestCase{
 			Sort.ordenarMergeSort(datos, comparador);
 			assertTrue(Sort.isSorted(comparador, datos));
 		}
+		
+		// Ordenar aleatorios y verificar que no se pierdan ni repitan datos
+		int n = 100000;
+		ArregloDinamico<Integer> enteros = new ArregloDinamico<Integer>(n);
+		for (int i = 0; i < n; i++) enteros.agregar((i * 7919) % n);
+		Sort.ordenarMergeSort(enteros, Comparator.<Integer>naturalOrder());
+		for (int i = 0; i < n; i++) assertEquals(i, enteros.darObjeto(i).intValue());
+		
+		// Ordenar por un criterio y luego por otro: el primer orden se conserva entre iguales (estable)
+		ArregloDinamico<int[]> pares = new ArregloDinamico<int[]>(n);
+		for (int i = 0; i < n; i++) pares.agregar(new int[] {(int) (Math.random() * 100), (int) (Math.random() * 100)});
+		Sort.ordenarMergeSort(pares, (a, b) -> Integer.compare(a[1], b[1]));
+		Sort.ordenarMergeSort(pares, (a, b) -> Integer.compare(a[0], b[0]));
+		for (int i = 1; i < n; i++) {
+			int[] anterior = pares.darObjeto(i - 1);
+			int[] actual = pares.darObjeto(i);
+			assertTrue(anterior[0] < actual[0] || (anterior[0] == actual[0] && anterior[1] <= actual[1]));
+		}
+	}
+	
+	/**
+	 * Prueba de ShellSort y QuickSort para arreglos de primitivos
+	 */
+	public void testPrimitivos() {
+		int n = 100000;
+		for (int escenario = 0; escenario < 2; escenario++) {
+			ArregloDinamicoInt enteros = new ArregloDinamicoInt();
+			ArregloDinamicoLong largos = new ArregloDinamicoLong();
+			ArregloDinamicoDouble reales = new ArregloDinamicoDouble();
+			for (int i = 0; i < n; i++) {
+				double aleatorio = Math.random();
+				enteros.agregar((int) (aleatorio * n));
+				largos.agregar((long) (aleatorio * Long.MAX_VALUE));
+				reales.agregar(aleatorio - 0.5);
+			}
+			if (escenario == 0) {
+				Sort.ordenarShellSort(enteros);
+				Sort.ordenarShellSort(largos);
+				Sort.ordenarShellSort(reales);
+			} else {
+				Sort.ordenarQuickSort(enteros);
+				Sort.ordenarQuickSort(largos);
+				Sort.ordenarQuickSort(reales);
+			}
+			assertTrue(Sort.isSorted(enteros));
+			assertTrue(Sort.isSorted(largos));
+			assertTrue(Sort.isSorted(reales));
+			assertEquals(n, enteros.darTamano());
+		}
+		
+		// Reales con NaN e infinitos: NaN queda al final, como con Double.compare
+		ArregloDinamicoDouble conNaN = new ArregloDinamicoDouble();
+		for (int i = 0; i < n; i++) {
+			double aleatorio = Math.random();
+			if (aleatorio < 0.1) conNaN.agregar(Double.NaN);
+			else if (aleatorio < 0.15) conNaN.agregar(Double.NEGATIVE_INFINITY);
+			else conNaN.agregar(aleatorio - 0.5);
+		}
+		Sort.ordenarQuickSort(conNaN);
+		assertTrue(Sort.isSorted(conNaN));
+		assertTrue(Double.isNaN(conNaN.darObjeto(n - 1)));
+	}
+	
+	/**
+	 * Prueba de MergeSort paralelo, incluyendo que sea estable
+	 */
+	public void testMergeSortParalelo() {
+		for (int n = 0; n < totalEscenarios; n++) {
+			setUpEscenario(n);
+				
+			Sort.ordenarMergeSortParalelo(datos, comparador);
+			assertTrue(Sort.isSorted(comparador, datos));
+		}
+		
+		// Ordenar por parte entera pares (valor, posicion original): las posiciones de los iguales deben quedar en orden
+		ArregloDinamico<double[]> pares = new ArregloDinamico<double[]>(N);
+		for (int i = 0; i < N; i++) pares.agregar(new double[] {Math.floor(Math.random() * 100), i});
+		Comparator<double[]> porValor = (a, b) -> Double.compare(a[0], b[0]);
+		Sort.ordenarMergeSortParalelo(pares, porValor);
+		assertEquals(N, pares.darTamano());
+		for (int i = 1; i < N; i++) {
+			double[] anterior = pares.darObjeto(i - 1);
+			double[] actual = pares.darObjeto(i);
+			assertTrue(anterior[0] < actual[0] || (anterior[0] == actual[0] && anterior[1] < actual[1]));
+		}
+	}
+	
+	/**
+	 * Prueba de TimSort con datos aleatorios, casi ordenados y por corridas, incluyendo que sea estable
+	 */
+	public void testTimSort() {
+		for (int n = 0; n < totalEscenarios; n++) {
+			setUpEscenario(n);
+				
+			Sort.ordenarTimSort(datos, comparador);
+			assertTrue(Sort.isSorted(comparador, datos));
+		}
+		
+		// Corridas ascendentes y descendentes alternadas, con pocos datos fuera de lugar
+		ArregloDinamico<int[]> pares = new ArregloDinamico<int[]>(N);
+		for (int i = 0; i < N; i++) {
+			pares.agregar(new int[] {valorPorCorridas(i) / 10, i});
+		}
+		Sort.ordenarTimSort(pares, (a, b) -> Integer.compare(a[0], b[0]));
+		for (int i = 1; i < N; i++) {
+			int[] anterior = pares.darObjeto(i - 1);
+			int[] actual = pares.darObjeto(i);
+			assertTrue("Orden incorrecto en " + i, anterior[0] < actual[0] || (anterior[0] == actual[0] && anterior[1] < actual[1]));
+		}
+	}
+	
+	// Valor i de una secuencia de corridas de 1000 datos, ascendentes y descendentes alternadas, con pocos datos fuera de lugar
+	private int valorPorCorridas(int i) {
+		if (i % 5000 == 0) return (int) (Math.random() * N);
+		return ((i / 1000) % 2 == 0) ? i : (i / 1000) * 1000 + 999 - i % 1000;
+	}
+	
+	/**
+	 * Prueba de ordenar un arreglo de ints con datos por corridas y con datos aleatorios
+	 */
+	public void testOrdenarEnteros() {
+		ArregloDinamicoInt enteros = new ArregloDinamicoInt(N);
+		for (int i = 0; i < N; i++) enteros.agregar(valorPorCorridas(i));
+		Sort.ordenar(enteros);
+		assertEquals(N, enteros.darTamano());
+		assertTrue(Sort.isSorted(enteros));
+		
+		// Datos aleatorios con muchos repetidos: no se pierden ni repiten datos
+		ArregloDinamicoInt aleatorios = new ArregloDinamicoInt(N);
+		int[] conteo = new int[100];
+		for (int i = 0; i < N; i++) {
+			int valor = (int) (Math.random() * 100);
+			aleatorios.agregar(valor);
+			conteo[valor]++;
+		}
+		Sort.ordenar(aleatorios);
+		assertTrue(Sort.isSorted(aleatorios));
+		for (int i = 0; i < N; i++) conteo[aleatorios.darObjeto(i)]--;
+		for (int i = 0; i < 100; i++) assertEquals(0, conteo[i]);
+	}
+	
+	/**
+	 * Prueba de RadixSort, con llaves negativas y positivas, incluyendo que sea estable
+	 */
+	public void testRadixSort() {
+		// Pares (llave, posicion original) con llaves en todo el rango de int
+		int[] extremos = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+		ArregloDinamico<int[]> pares = new ArregloDinamico<int[]>(N);
+		for (int i = 0; i < N; i++) {
+			int llave = (i % 10 < 5) ? extremos[i % 5] : (int) (Math.random() * 2000) - 1000;
+			pares.agregar(new int[] {llave, i});
+		}
+		Sort.ordenarRadixSort(pares, par -> par[0]);
+		assertEquals(N, pares.darTamano());
+		for (int i = 1; i < N; i++) {
+			int[] anterior = pares.darObjeto(i - 1);
+			int[] actual = pares.darObjeto(i);
+			assertTrue("Orden incorrecto en " + i, anterior[0] < actual[0] || (anterior[0] == actual[0] && anterior[1] < actual[1]));
+		}
+	}
+	
+	/**
+	 * Prueba de HeapSort
+	 */
+	public void testHeapSort() {
+		for (int n = 0; n < totalEscenarios; n++) {
+			setUpEscenario(n);
+				
+			Sort.ordenarHeapSort(datos, comparador);
+			assertTrue(Sort.isSorted(comparador, datos));
+		}
+		
+		// Ordenar aleatorios y verificar que no se pierdan ni repitan datos
+		int n = 100000;
+		ArregloDinamico<Integer> enteros = new ArregloDinamico<Integer>(n);
+		for (int i = 0; i < n; i++) enteros.agregar((i * 7919) % n);
+		Sort.ordenarHeapSort(enteros, Comparator.<Integer>naturalOrder());
+		for (int i = 0; i < n; i++) assertEquals(i, enteros.darObjeto(i).intValue());
+	}
+	
+	/**
+	 * Prueba de seleccionarK: el dato retornado es el que queda en la posicion k al ordenar
+	 */
+	public void testSeleccionarK() {
+		int n = 10001;
+		ArregloDinamico<Integer> enteros = new ArregloDinamico<Integer>(n);
+		for (int i = 0; i < n; i++) enteros.agregar((i * 7919) % n / 3);
+		Comparator<Integer> orden = Comparator.<Integer>naturalOrder();
+		
+		int[] posiciones = {0, 1, n / 2, n - 2, n - 1};
+		for (int k : posiciones) {
+			Integer seleccionado = Sort.seleccionarK(enteros, k, orden);
+			assertEquals("Dato incorrecto para k = " + k, k / 3, seleccionado.intValue());
+			assertEquals(seleccionado, enteros.darObjeto(k));
+			for (int i = 0; i < k; i++) assertTrue(enteros.darObjeto(i) <= seleccionado);
+			for (int i = k + 1; i < n; i++) assertTrue(enteros.darObjeto(i) >= seleccionado);
+		}
+		assertEquals((n - 1) / 3, Sort.seleccionarK(enteros, 0, orden.reversed()).intValue());
+		
+		try {
+			Sort.seleccionarK(enteros, n, orden);
+			fail("Deberia lanzar excepcion para una posicion fuera del arreglo");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+	
+	/**
+	 * Prueba de ordenarParcial: los k primeros quedan ordenados y son los k menores
+	 */
+	public void testOrdenarParcial() {
+		int n = 100000;
+		int[] valoresK = {0, 1, 50, n, n + 10};
+		for (int k : valoresK) {
+			ArregloDinamico<Integer> enteros = new ArregloDinamico<Integer>(n);
+			for (int i = 0; i < n; i++) enteros.agregar((i * 7919) % n);
+			Sort.ordenarParcial(enteros, k, Comparator.<Integer>reverseOrder());
+			assertEquals(n, enteros.darTamano());
+			for (int i = 0; i < Math.min(k, n); i++) assertEquals("Dato incorrecto en " + i, n - 1 - i, enteros.darObjeto(i).intValue());
+		}
 	}
 	
 	/**
@@ -76,5 +299,26 @@ public class SortTest extends TestCase{
 			Sort.ordenarQuickSort(datos, comparador);
 			assertTrue(Sort.isSorted(comparador, datos));
 		}
+		
+		// Muchos datos repetidos (como infracciones con el mismo addressID)
+		ArregloDinamico<Integer> repetidos = new ArregloDinamico<Integer>(N);
+		for (int i = 0; i < N; i++) repetidos.agregar(i % 7);
+		Sort.ordenarQuickSort(repetidos, Comparator.<Integer>naturalOrder());
+		assertTrue(Sort.isSorted(Comparator.<Integer>naturalOrder(), repetidos));
+		assertEquals(0, repetidos.darObjeto(0).intValue());
+		assertEquals(6, repetidos.darObjeto(N - 1).intValue());
+		
+		// Con la misma semilla se desordena igual
+		ArregloDinamico<Integer> a = new ArregloDinamico<Integer>(100);
+		ArregloDinamico<Integer> b = new ArregloDinamico<Integer>(100);
+		for (int i = 0; i < 100; i++) {
+			a.agregar(i);
+			b.agregar(i);
+		}
+		Sort.fijarSemilla(7);
+		Sort.shuffle(a);
+		Sort.fijarSemilla(7);
+		Sort.shuffle(b);
+		for (int i = 0; i < 100; i++) assertEquals(a.darObjeto(i), b.darObjeto(i));
 	}
 }
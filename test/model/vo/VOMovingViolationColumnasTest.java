@@ -0,0 +1,249 @@
+package model.vo;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import junit.framework.TestCase;
+
+public class VOMovingViolationColumnasTest extends TestCase {
+	/*
+	 * Atributos
+	 */
+	private VOMovingViolationColumnas columnas;
+	// Posicion de cada header esperado en las lineas de prueba: el mismo orden de EXPECTEDHEADERS
+	private int[] posiciones;
+	private final int N = 500;
+
+	/*
+	 * Escenarios
+	 */
+	// Columnas con N infracciones cuyo addressID se repite (i*7) % 50 y cuya location depende del addressID
+	private void setUpEscenario1() {
+		posiciones = new int[VOMovingViolation.EXPECTEDHEADERS.length];
+		for (int i = 0; i < posiciones.length; i++) posiciones[i] = i;
+		columnas = new VOMovingViolationColumnas();
+		for (int i = 0; i < N; i++) {
+			int address = (i * 7) % 50;
+			columnas.agregar(posiciones, linea(i, address, i % 2 == 0 ? "Yes" : "No"));
+		}
+	}
+
+	// Linea del archivo CSV para la infraccion i
+	private String[] linea(int i, int address, String accidente) {
+		String[] linea = new String[VOMovingViolation.EXPECTEDHEADERS.length];
+		for (int j = 0; j < linea.length; j++) linea[j] = "";
+		linea[VOMovingViolation.OBJECTID] = "" + i;
+		// Un nuevo String en cada linea, como lo entrega el lector de CSV
+		linea[VOMovingViolation.LOCATION] = new String("Calle " + address);
+		linea[VOMovingViolation.ADDRESS_ID] = "" + address;
+		linea[VOMovingViolation.STREETSEGID] = i % 3 == 0 ? "" : "" + (i + 1);
+		linea[VOMovingViolation.FINEAMT] = "" + (i % 100);
+		linea[VOMovingViolation.TOTALPAID] = "" + (i * 0.5);
+		linea[VOMovingViolation.PENALTY1] = "" + (i * 2);
+		linea[VOMovingViolation.PENALTY2] = "";
+		linea[VOMovingViolation.ACCIDENTINDICATOR] = accidente;
+		linea[VOMovingViolation.TICKETISSUEDATE] = String.format("2018-01-%02dT10:00:%02d.000Z", 1 + i % 28, i % 60);
+		linea[VOMovingViolation.VIOLATIONCODE] = new String("T" + (i % 5));
+		linea[VOMovingViolation.VIOLATIONDESC] = new String("Desc " + (i % 5));
+		return linea;
+	}
+
+	/*
+	 * Metodos para Pruebas
+	 */
+	/**
+	 * Prueba que se guarden los campos de cada linea en el orden en que se agregaron
+	 */
+	public void testAgregar() {
+		setUpEscenario1();
+		assertEquals("No hay el numero de infracciones esperado", N, columnas.darTamano());
+		for (int i = 0; i < N; i++) {
+			assertEquals("El objectId no es el esperado", "" + i, columnas.darObjectId(i));
+			assertEquals("El addressID no es el esperado", (i * 7) % 50, columnas.darAddressID(i));
+			assertEquals("La location no es la esperada", "Calle " + (i * 7) % 50, columnas.darLocation(i));
+			assertEquals("El streetsegID no es el esperado", i % 3 == 0 ? -1 : i + 1, columnas.darStreetsegID(i));
+			assertEquals("El fineAmount no es el esperado", i % 100, columnas.darFineAmount(i));
+			assertEquals("El totalPaid no es el esperado", i * 0.5, columnas.darTotalPaid(i));
+			assertEquals("El penalty1 no es el esperado", i * 2.0, columnas.darPenalty1(i));
+			assertEquals("El penalty2 vacio deberia ser 0", 0.0, columnas.darPenalty2(i));
+			assertEquals("El indicador de accidente no es el esperado", i % 2 == 0, columnas.darAccidentIndicator(i));
+			assertEquals("La fecha no es la esperada",
+					VOMovingViolationColumnas.aSegundos(LocalDateTime.of(2018, 1, 1 + i % 28, 10, 0, i % 60)),
+					columnas.darTicketIssueDate(i));
+			assertEquals("El codigo no es el esperado", "T" + (i % 5), columnas.darViolationCode(i));
+			assertEquals("La descripcion no es la esperada", "Desc " + (i % 5), columnas.darViolationDesc(i));
+		}
+	}
+
+	/**
+	 * Prueba que los textos repetidos se guarden una sola vez
+	 */
+	public void testTextosCompartidos() {
+		setUpEscenario1();
+		// Las infracciones 0 y 50 tienen el mismo addressID y el mismo codigo
+		assertSame("La location repetida deberia ser el mismo objeto", columnas.darLocation(0), columnas.darLocation(50));
+		assertSame("El codigo repetido deberia ser el mismo objeto", columnas.darViolationCode(0), columnas.darViolationCode(50));
+		assertSame("La descripcion repetida deberia ser el mismo objeto", columnas.darViolationDesc(0), columnas.darViolationDesc(50));
+	}
+
+	/**
+	 * Prueba que ordenar por addressID mueva todas las columnas juntas y conserve el orden de los empates
+	 */
+	public void testOrdenarPorAddressID() {
+		setUpEscenario1();
+		columnas.ordenarPorAddressID();
+		assertEquals("No deberia cambiar el numero de infracciones", N, columnas.darTamano());
+		for (int i = 0; i < N; i++) {
+			int id = Integer.parseInt(columnas.darObjectId(i));
+			assertEquals("Las columnas no se movieron juntas", (id * 7) % 50, columnas.darAddressID(i));
+			assertEquals("Las columnas no se movieron juntas", "Calle " + columnas.darAddressID(i), columnas.darLocation(i));
+			assertEquals("Las columnas no se movieron juntas", id % 100, columnas.darFineAmount(i));
+			assertEquals("Las columnas no se movieron juntas", id % 2 == 0, columnas.darAccidentIndicator(i));
+			if (i > 0) {
+				assertTrue("No esta ordenado por addressID", columnas.darAddressID(i - 1) <= columnas.darAddressID(i));
+				if (columnas.darAddressID(i - 1) == columnas.darAddressID(i)) {
+					assertTrue("El ordenamiento no es estable", Integer.parseInt(columnas.darObjectId(i - 1)) < id);
+				}
+			}
+		}
+
+		// Ordenar un conjunto vacio no deberia fallar
+		columnas = new VOMovingViolationColumnas();
+		columnas.ordenarPorAddressID();
+		assertEquals("El conjunto deberia seguir vacio", 0, columnas.darTamano());
+	}
+
+	/**
+	 * Prueba que darInfraccion cree un VOMovingViolation con los mismos datos de la linea
+	 */
+	public void testDarInfraccion() {
+		setUpEscenario1();
+		for (int i = 0; i < N; i += 37) {
+			VOMovingViolation esperada = new VOMovingViolation(posiciones, linea(i, (i * 7) % 50, i % 2 == 0 ? "Yes" : "No"));
+			VOMovingViolation infraccion = columnas.darInfraccion(i);
+			assertEquals("El objectId no es el esperado", esperada.objectId(), infraccion.objectId());
+			assertEquals("La location no es la esperada", esperada.getLocation(), infraccion.getLocation());
+			assertEquals("El addressID no es el esperado", esperada.getAddressID(), infraccion.getAddressID());
+			assertEquals("El streetsegID no es el esperado", esperada.getStreetsegID(), infraccion.getStreetsegID());
+			assertEquals("El fineAmount no es el esperado", esperada.getFineAmount(), infraccion.getFineAmount());
+			assertEquals("El totalPaid no es el esperado", esperada.getTotalPaid(), infraccion.getTotalPaid());
+			assertEquals("El penalty1 no es el esperado", esperada.getPenalty1(), infraccion.getPenalty1());
+			assertEquals("El penalty2 no es el esperado", esperada.getPenalty2(), infraccion.getPenalty2());
+			assertEquals("El indicador de accidente no es el esperado", esperada.getAccidentIndicator(), infraccion.getAccidentIndicator());
+			assertEquals("La fecha no es la esperada", esperada.getTicketIssueDate(), infraccion.getTicketIssueDate());
+			assertEquals("El codigo no es el esperado", esperada.getViolationCode(), infraccion.getViolationCode());
+			assertEquals("La descripcion no es la esperada", esperada.getViolationDescription(), infraccion.getViolationDescription());
+		}
+	}
+
+	/**
+	 * Prueba que una sola vista Fila recorra todas las filas, tambien despues de ordenar
+	 */
+	public void testFila() {
+		setUpEscenario1();
+		VOMovingViolationColumnas.Fila fila = columnas.darFila();
+		assertEquals("La vista deberia empezar en la fila 0", 0, fila.darPosicion());
+		for (int i = N - 1; i >= 0; i--) {
+			assertSame("moverA deberia retornar la misma vista", fila, fila.moverA(i));
+			assertEquals("La posicion no es la esperada", i, fila.darPosicion());
+			assertEquals("El objectId no es el esperado", columnas.darObjectId(i), fila.objectId());
+			assertEquals("El addressID no es el esperado", columnas.darAddressID(i), fila.getAddressID());
+			assertEquals("La location no es la esperada", columnas.darLocation(i), fila.getLocation());
+			assertEquals("El streetsegID no es el esperado", columnas.darStreetsegID(i), fila.getStreetsegID());
+			assertEquals("El fineAmount no es el esperado", columnas.darFineAmount(i), fila.getFineAmount());
+			assertEquals("El totalPaid no es el esperado", columnas.darTotalPaid(i), fila.getTotalPaid());
+			assertEquals("El penalty1 no es el esperado", columnas.darPenalty1(i), fila.getPenalty1());
+			assertEquals("El penalty2 no es el esperado", columnas.darPenalty2(i), fila.getPenalty2());
+			assertEquals("El indicador de accidente no es el esperado", columnas.darAccidentIndicator(i), fila.getAccidentIndicator());
+			assertEquals("La fecha no es la esperada", columnas.darTicketIssueDate(i), fila.getTicketIssueDate());
+			assertEquals("El codigo no es el esperado", columnas.darViolationCode(i), fila.getViolationCode());
+			assertEquals("La descripcion no es la esperada", columnas.darViolationDesc(i), fila.getViolationDescription());
+		}
+
+		// Despues de ordenar, la vista muestra la fila que quedo en su posicion
+		columnas.ordenarPorAddressID();
+		fila.moverA(N - 1);
+		assertEquals("La vista deberia leer las columnas ordenadas", columnas.darObjectId(N - 1), fila.objectId());
+		assertEquals("El addressID deberia ser el mayor", 49, fila.getAddressID());
+		VOMovingViolation infraccion = fila.aInfraccion();
+		assertEquals("La infraccion no corresponde a la fila", fila.objectId(), infraccion.objectId());
+		assertEquals("La infraccion no corresponde a la fila", fila.getTicketIssueDate(),
+				VOMovingViolationColumnas.aSegundos(infraccion.getTicketIssueDate()));
+
+		try {
+			fila.moverA(N);
+			fail("Deberia rechazar una posicion por fuera del arreglo");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		assertEquals("La posicion no deberia cambiar si moverA falla", N - 1, fila.darPosicion());
+	}
+
+	/**
+	 * Prueba que la fecha leida sin LocalDateTime sea la misma que lee el constructor de VOMovingViolation
+	 */
+	public void testLeerFecha() {
+		DateTimeFormatter formato = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'.000Z'");
+		String[] fechas = {"1970-01-01T00:00:00.000Z", "1969-12-31T23:59:59.000Z", "2000-02-29T12:30:45.000Z",
+				"1900-03-01T00:00:00.000Z", "2018-12-31T23:59:59.000Z", "2024-02-29T06:07:08.000Z"};
+		for (String fecha : fechas) {
+			assertEquals("La fecha " + fecha + " no es la esperada",
+					VOMovingViolationColumnas.aSegundos(LocalDateTime.parse(fecha, formato)),
+					VOMovingViolation.leerFechaEnSegundos(fecha));
+		}
+		// Un segundo de cada dia entre 1990 y 2030
+		LocalDateTime fecha = LocalDateTime.of(1990, 1, 1, 0, 0, 0);
+		for (int i = 0; i < 40 * 366; i++) {
+			assertEquals("La fecha " + fecha + " no es la esperada", VOMovingViolationColumnas.aSegundos(fecha),
+					VOMovingViolation.leerFechaEnSegundos(fecha.format(formato)));
+			fecha = fecha.plusSeconds(86400 + 3607);
+		}
+
+		String[] invalidas = {"2018-02-29T00:00:00.000Z", "2018-13-01T00:00:00.000Z", "2018-01-01T24:00:00.000Z",
+				"2018-01-01 00:00:00.000Z", "2018-01-01T00:00:00.123Z", "2018-1-01T00:00:00.000Z", "2018-0a-01T00:00:00.000Z"};
+		for (String invalida : invalidas) {
+			try {
+				VOMovingViolation.leerFechaEnSegundos(invalida);
+				fail("Deberia rechazar la fecha " + invalida);
+			} catch (IllegalArgumentException e) {
+				// Esperado
+			}
+		}
+	}
+
+	/**
+	 * Prueba los errores: indicador de accidente invalido y posiciones por fuera del arreglo
+	 */
+	public void testErrores() {
+		setUpEscenario1();
+		try {
+			columnas.agregar(posiciones, linea(N, 1, "Tal vez"));
+			fail("Deberia rechazar un indicador de accidente invalido");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		assertEquals("La linea invalida no deberia agregarse", N, columnas.darTamano());
+		try {
+			String[] linea = linea(N, 1, "No");
+			linea[VOMovingViolation.TICKETISSUEDATE] = "2018-02-30T10:00:00.000Z";
+			columnas.agregar(posiciones, linea);
+			fail("Deberia rechazar una fecha invalida");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		assertEquals("La linea invalida no deberia agregarse", N, columnas.darTamano());
+
+		try {
+			columnas.darLocation(N);
+			fail("Deberia rechazar una posicion por fuera del arreglo");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+		try {
+			columnas.darInfraccion(-1);
+			fail("Deberia rechazar una posicion negativa");
+		} catch (IllegalArgumentException e) {
+			// Esperado
+		}
+	}
+}
@@ -1,6 +1,10 @@
 package pruebasColaPrioridad;
 
+import java.util.stream.StreamSupport;
+
 import junit.framework.TestCase;
+import model.data_structures.ArregloDinamico;
+import model.data_structures.IArregloDinamico;
 import model.data_structures.MaxColaPrioridad;
 import model.data_structures.MaxHeapCP;
 import model.vo.LocationVO;
@@ -98,6 +102,113 @@ public class pruebaColaPrioridad extends TestCase {
 	}
 
 
+	public void testIgualPrioridadMaxCP(){
+		setUpEscenario1();
+
+		//Elementos con la misma prioridad (mismo numero de registros y location) que uno ya agregado
+		LocationVO igual1 = new LocationVO(1, "NA", 50);
+		LocationVO igual2 = new LocationVO(2, "NA", 50);
+		cp1.agregar(igual1);
+		cp1.agregar(igual2);
+		assertEquals("Deberia haber 102 elementos",102, cp1.darNumElementos());
+
+		//Se eliminan en orden, y los de igual prioridad en el orden en que se agregaron
+		for (int i = 109; i > 50; i--) {
+			assertEquals("Los elementos no se estan eliminando en orden",i, cp1.delMax().getNumberOfRegisters());
+		}
+		assertEquals("Deberia eliminarse primero el que estaba antes",40*40, cp1.delMax().getAddressID());
+		assertEquals("Deberia eliminarse despues el primero agregado",igual1, cp1.delMax());
+		assertEquals("Deberia eliminarse despues el segundo agregado",igual2, cp1.delMax());
+		for (int i = 49; i >= 10; i--) {
+			assertEquals("Los elementos no se estan eliminando en orden",i, cp1.delMax().getNumberOfRegisters());
+		}
+		assertEquals("La cola deberia estar vacia",true, cp1.esVacia());
+		assertEquals("No hay elementos deberia retornar null",null, cp1.max());
+	}
+
+	public void testConstruccionDesdeArreglo(){
+		// Arreglo con prioridades desordenadas y repetidas
+		ArregloDinamico<LocationVO> datos = new ArregloDinamico<LocationVO>();
+		for (int i = 0; i < 100; i++) {
+			datos.agregar(new LocationVO(i, "NA", (i*37) % 50));
+		}
+		cp2 = new MaxHeapCP<LocationVO>(datos);
+		assertEquals("Deberia haber 100 elementos",100, cp2.darNumElementos());
+		assertEquals("El arreglo original no deberia cambiar",100, datos.darTamano());
+
+		LocationVO anterior = cp2.delMax();
+		assertEquals("El elemento maximo no deberia ser ese",49, anterior.getNumberOfRegisters());
+		for (int i = 1; i < 100; i++) {
+			LocationVO actual = cp2.delMax();
+			assertTrue("Los elementos no se estan eliminando en orden", anterior.compareTo(actual) >= 0);
+			anterior = actual;
+		}
+		assertEquals("La cola deberia estar vacia",true, cp2.esVacia());
+
+		// Arreglo vacio
+		cp2 = new MaxHeapCP<LocationVO>(new ArregloDinamico<LocationVO>());
+		assertEquals("La cola deberia estar vacia",true, cp2.esVacia());
+		assertEquals("No hay elementos deberia retornar null",null, cp2.delMax());
+	}
+
+
+	public void testOperacionesEnLote(){
+		setUpEscenario1();
+
+		//Lote pequeno comparado con la cola (swim de cada uno) y lote grande (reconstruccion del heap)
+		ArregloDinamico<LocationVO> pocos = new ArregloDinamico<LocationVO>();
+		for (int i = 0; i < 10; i++) pocos.agregar(new LocationVO(-i, "NA", 200 + i));
+		ArregloDinamico<LocationVO> muchos = new ArregloDinamico<LocationVO>();
+		for (int i = 0; i < 200; i++) muchos.agregar(new LocationVO(-i, "NA", i % 100));
+		cp1.agregarTodos(pocos);
+		cp2.agregarTodos(pocos);
+		cp1.agregarTodos(muchos);
+		cp2.agregarTodos(muchos);
+		assertEquals("Deberia haber 310 elementos",310, cp1.darNumElementos());
+		assertEquals("Deberia haber 310 elementos",310, cp2.darNumElementos());
+
+		//Quitar los 10 mayores en un solo llamado
+		IArregloDinamico<LocationVO> mayores1 = cp1.delMax(10);
+		IArregloDinamico<LocationVO> mayores2 = cp2.delMax(10);
+		assertEquals("Deberian quitarse 10 elementos",10, mayores1.darTamano());
+		assertEquals("Deberian quitarse 10 elementos",10, mayores2.darTamano());
+		for (int i = 0; i < 10; i++) {
+			assertEquals("Los elementos no se estan eliminando en orden",209 - i, mayores1.darObjeto(i).getNumberOfRegisters());
+			assertEquals("Los elementos no se estan eliminando en orden",209 - i, mayores2.darObjeto(i).getNumberOfRegisters());
+		}
+		assertEquals("Deberia haber 300 elementos",300, cp2.darNumElementos());
+
+		//Quitar mas elementos de los que hay
+		IArregloDinamico<LocationVO> resto1 = cp1.delMax(1000);
+		IArregloDinamico<LocationVO> resto2 = cp2.delMax(1000);
+		assertEquals("Deberian quitarse 300 elementos",300, resto1.darTamano());
+		assertEquals("Deberian quitarse 300 elementos",300, resto2.darTamano());
+		for (int i = 1; i < 300; i++) {
+			assertTrue("Los elementos no se estan eliminando en orden", resto1.darObjeto(i-1).compareTo(resto1.darObjeto(i)) >= 0);
+			assertTrue("Los elementos no se estan eliminando en orden", resto2.darObjeto(i-1).compareTo(resto2.darObjeto(i)) >= 0);
+		}
+		assertEquals("La cola deberia estar vacia",true, cp1.esVacia());
+		assertEquals("La cola deberia estar vacia",true, cp2.esVacia());
+		assertEquals("No deberian quitarse elementos",0, cp2.delMax(5).darTamano());
+	}
+
+
+	public void testRecorridoParaleloHeap(){
+		setUpEscenario1();
+
+		//El iterador y el Spliterator no deberian incluir la posicion 0 del heap
+		int contados = 0;
+		for (LocationVO loc : cp2) {
+			assertNotNull("El iterador no deberia retornar null", loc);
+			contados++;
+		}
+		assertEquals("El iterador deberia recorrer 100 elementos",100, contados);
+
+		long suma = StreamSupport.stream(cp2.spliterator(), true).mapToLong(LocationVO::getNumberOfRegisters).sum();
+		assertEquals("La suma de registros no es la esperada",(10 + 109)*100/2, suma);
+	}
+
+
 	public void agregarNuevoElementosConMuchosElementos(){
 
 		setUpEscenario1();